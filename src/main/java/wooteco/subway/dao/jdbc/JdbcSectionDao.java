@@ -76,7 +76,9 @@ public class JdbcSectionDao implements SectionDao {
                 + "line.id as line_id, line.name as line_name, "
                 + "line.color as line_color, line.extraFare as line_extra_fare, "
                 + "up.id as up_station_id, up.name as up_station_name, "
-                + "down.id as down_station_id, down.name as down_station_name, distance FROM section "
+                + "up.latitude as up_station_latitude, up.longitude as up_station_longitude, "
+                + "down.id as down_station_id, down.name as down_station_name, "
+                + "down.latitude as down_station_latitude, down.longitude as down_station_longitude, distance FROM section "
                 + "JOIN line on line.id = section.line_id "
                 + "JOIN station up on up.id = up_station_id "
                 + "JOIN station down on down.id = down_station_id "
@@ -91,7 +93,9 @@ public class JdbcSectionDao implements SectionDao {
                 + "line.id as line_id, line.name as line_name, "
                 + "line.color as line_color, line.extraFare as line_extra_fare, "
                 + "up.id as up_station_id, up.name as up_station_name, "
-                + "down.id as down_station_id, down.name as down_station_name, distance FROM `section` "
+                + "up.latitude as up_station_latitude, up.longitude as up_station_longitude, "
+                + "down.id as down_station_id, down.name as down_station_name, "
+                + "down.latitude as down_station_latitude, down.longitude as down_station_longitude, distance FROM `section` "
                 + "JOIN line on line.id = `section`.line_id "
                 + "JOIN station up on up.id = up_station_id "
                 + "JOIN station down on down.id = down_station_id "
@@ -106,7 +110,9 @@ public class JdbcSectionDao implements SectionDao {
                 + "line.id as line_id, line.name as line_name, "
                 + "line.color as line_color, line.extraFare as line_extra_fare, "
                 + "up.id as up_station_id, up.name as up_station_name, "
-                + "down.id as down_station_id, down.name as down_station_name, distance FROM `section` "
+                + "up.latitude as up_station_latitude, up.longitude as up_station_longitude, "
+                + "down.id as down_station_id, down.name as down_station_name, "
+                + "down.latitude as down_station_latitude, down.longitude as down_station_longitude, distance FROM `section` "
                 + "JOIN line on line.id = `section`.line_id "
                 + "JOIN station up on up.id = up_station_id "
                 + "JOIN station down on down.id = down_station_id";
@@ -141,11 +147,15 @@ public class JdbcSectionDao implements SectionDao {
 
             final Long upStationId = resultSet.getLong("up_station_id");
             final String upStationName = resultSet.getString("up_station_name");
-            Station upStation = new Station(upStationId, upStationName);
+            Station upStation = new Station(upStationId, upStationName, JdbcStationDao.toCoordinate(
+                    resultSet.getObject("up_station_latitude", Double.class),
+                    resultSet.getObject("up_station_longitude", Double.class)));
 
             final Long downStationId = resultSet.getLong("down_station_id");
             final String downStationName = resultSet.getString("down_station_name");
-            Station downStation = new Station(downStationId, downStationName);
+            Station downStation = new Station(downStationId, downStationName, JdbcStationDao.toCoordinate(
+                    resultSet.getObject("down_station_latitude", Double.class),
+                    resultSet.getObject("down_station_longitude", Double.class)));
 
             int distance = resultSet.getInt("distance");
 
@@ -12,13 +12,16 @@ import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 import wooteco.subway.dao.StationDao;
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.vo.Coordinate;
 
 @Repository
 public class JdbcStationDao implements StationDao {
 
     private static final RowMapper<Station> STATION_ROW_MAPPER = (resultSet, rowNum) -> new Station(
             resultSet.getLong("id"),
-            resultSet.getString("name")
+            resultSet.getString("name"),
+            toCoordinate(resultSet.getObject("latitude", Double.class),
+                    resultSet.getObject("longitude", Double.class))
     );
     private static final String STATION_TABLE_NAME = "station";
     private static final String GENERATE_KEY_COLUMN = "id";
@@ -37,15 +40,24 @@ public class JdbcStationDao implements StationDao {
     public Station save(Station station) {
         MapSqlParameterSource parameterSource = new MapSqlParameterSource();
         parameterSource.addValue("name", station.getName());
+        parameterSource.addValue("latitude", station.getCoordinate().map(Coordinate::getLatitude).orElse(null));
+        parameterSource.addValue("longitude", station.getCoordinate().map(Coordinate::getLongitude).orElse(null));
 
         final long id = simpleJdbcInsert.executeAndReturnKey(parameterSource).longValue();
 
-        return new Station(id, station.getName());
+        return new Station(id, station.getName(), station.getCoordinate().orElse(null));
+    }
+
+    static Coordinate toCoordinate(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return Coordinate.of(latitude, longitude);
     }
 
     @Override
     public Optional<Station> findById(Long id) {
-        String sql = "SELECT id, name FROM station WHERE id = :id";
+        String sql = "SELECT id, name, latitude, longitude FROM station WHERE id = :id";
 
         try {
             final Station station = jdbcTemplate.queryForObject(sql, Map.of("id", id), STATION_ROW_MAPPER);
@@ -57,14 +69,14 @@ public class JdbcStationDao implements StationDao {
 
     @Override
     public List<Station> findAll() {
-        String sql = "SELECT id, name FROM station";
+        String sql = "SELECT id, name, latitude, longitude FROM station";
 
         return jdbcTemplate.query(sql, STATION_ROW_MAPPER);
     }
 
     @Override
     public List<Station> findAllByIds(List<Long> stationIds) {
-        String sql = "SELECT id, name FROM station WHERE id IN (:stationIds)";
+        String sql = "SELECT id, name, latitude, longitude FROM station WHERE id IN (:stationIds)";
 
         return jdbcTemplate.query(sql, Map.of("stationIds", stationIds), STATION_ROW_MAPPER);
     }
@@ -1,19 +1,31 @@
 package wooteco.subway.domain;
 
 import java.util.Objects;
+import java.util.Optional;
+import wooteco.subway.domain.vo.Coordinate;
 import wooteco.subway.domain.vo.Name;
 
 public class Station {
     private final Long id;
     private final Name name;
+    private final Coordinate coordinate;
 
     public Station(String name) {
         this(null, name);
     }
 
     public Station(Long id, String name) {
+        this(id, name, null);
+    }
+
+    public Station(String name, Coordinate coordinate) {
+        this(null, name, coordinate);
+    }
+
+    public Station(Long id, String name, Coordinate coordinate) {
         this.id = id;
         this.name = Name.of(name);
+        this.coordinate = coordinate;
     }
 
     public Long getId() {
@@ -24,6 +36,10 @@ public class Station {
         return name.getName();
     }
 
+    public Optional<Coordinate> getCoordinate() {
+        return Optional.ofNullable(coordinate);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -19,6 +19,20 @@ public class Fare {
         this.age = age;
     }
 
+    public static int maxDistanceWithin(int fareLimit, int age, int distanceLimit) {
+        int low = -1;
+        int high = distanceLimit;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (new Fare(middle, ZERO_EXTRA_COST, age).calculate() <= fareLimit) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
     public int calculate() {
         final Distance distance = Distance.from(moveDistance);
         final int fare = distance.calculateAdditionalFare(moveDistance);
@@ -0,0 +1,92 @@
+package wooteco.subway.domain.path;
+
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.vo.Coordinate;
+import wooteco.subway.exception.IllegalPathException;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "a-star")
+public class AStarPathGenerator implements PathGenerator {
+
+    private static final double NO_HEURISTIC = 0.0;
+    private static final double ROUNDING_MARGIN = 1 - 1e-9;
+
+    @Override
+    public boolean readsGraphDirectly() {
+        return true;
+    }
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        final Coordinate[] coordinates = collectCoordinates(graph);
+        final double scale = coordinates == null ? NO_HEURISTIC : findAdmissibleScale(graph, coordinates);
+        return (sourceStation, targetStation) -> findPath(graph, coordinates, scale, sourceStation, targetStation);
+    }
+
+    private Coordinate[] collectCoordinates(RoutingGraph graph) {
+        final Coordinate[] coordinates = new Coordinate[graph.getStationCount()];
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            if (graph.firstEdge(vertex) == graph.lastEdge(vertex)) {
+                continue;
+            }
+            final Optional<Coordinate> coordinate = graph.getStation(vertex).getCoordinate();
+            if (coordinate.isEmpty()) {
+                return null;
+            }
+            coordinates[vertex] = coordinate.get();
+        }
+        return coordinates;
+    }
+
+    private double findAdmissibleScale(RoutingGraph graph, Coordinate[] coordinates) {
+        double scale = Double.POSITIVE_INFINITY;
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                final double straightLine = coordinates[vertex].distanceTo(coordinates[graph.neighbor(edge)]);
+                if (straightLine > 0) {
+                    scale = Math.min(scale, graph.distance(edge) / straightLine);
+                }
+            }
+        }
+        if (Double.isInfinite(scale)) {
+            return NO_HEURISTIC;
+        }
+        return scale * ROUNDING_MARGIN;
+    }
+
+    private Path findPath(RoutingGraph graph, Coordinate[] coordinates, double scale, Station sourceStation,
+                          Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        final SearchWorkspace workspace = SearchWorkspace.acquire(graph);
+        workspace.improve(source, RoutingGraph.NO_EDGE, 0);
+
+        while (workspace.hasNext()) {
+            final int vertex = workspace.next();
+            final int distance = workspace.distanceOf(vertex);
+            if (vertex == target) {
+                return graph.toPath(source, target, workspace.getPreviousEdges(), distance);
+            }
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                final int neighbor = graph.neighbor(edge);
+                if (!workspace.isSettled(neighbor)) {
+                    final int nextDistance = distance + graph.distance(edge);
+                    workspace.improve(neighbor, edge, nextDistance,
+                            nextDistance + heuristic(coordinates, scale, neighbor, target));
+                }
+            }
+        }
+        throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+    }
+
+    private int heuristic(Coordinate[] coordinates, double scale, int vertex, int target) {
+        if (scale == NO_HEURISTIC) {
+            return 0;
+        }
+        return (int) Math.floor(scale * coordinates[vertex].distanceTo(coordinates[target]));
+    }
+}
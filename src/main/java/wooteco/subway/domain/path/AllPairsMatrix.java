@@ -0,0 +1,150 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class AllPairsMatrix implements PathFinder {
+
+    private static final int MATRIX_COUNT = 2;
+    private static final long MAX_CELL_COUNT = Integer.MAX_VALUE - 8;
+
+    private final RoutingGraph graph;
+    private final int stationCount;
+    private final int[] distances;
+    private final int[] nextHops;
+
+    private AllPairsMatrix(RoutingGraph graph, int[] distances, int[] nextHops) {
+        this.graph = graph;
+        this.stationCount = graph.getStationCount();
+        this.distances = distances;
+        this.nextHops = nextHops;
+    }
+
+    public static AllPairsMatrix from(RoutingGraph graph) {
+        return from(graph, ForkJoinPool.commonPool());
+    }
+
+    public static AllPairsMatrix from(RoutingGraph graph, ForkJoinPool pool) {
+        final int stationCount = graph.getStationCount();
+        if (cellCount(stationCount) > MAX_CELL_COUNT) {
+            throw new IllegalArgumentException("역이 너무 많아 전체 쌍 거리 행렬을 만들 수 없습니다.");
+        }
+        final int[] distances = new int[stationCount * stationCount];
+        final int[] nextHops = new int[stationCount * stationCount];
+        Arrays.fill(distances, SearchFrontier.UNREACHABLE);
+        Arrays.fill(nextHops, RoutingGraph.NO_EDGE);
+
+        pool.invoke(new SourceRangeTask(graph, distances, nextHops, 0, stationCount));
+        return new AllPairsMatrix(graph, distances, nextHops);
+    }
+
+    public static long requiredBytes(int stationCount) {
+        return cellCount(stationCount) * Integer.BYTES * MATRIX_COUNT;
+    }
+
+    public static boolean fitsIn(int stationCount, long memoryBudget) {
+        return cellCount(stationCount) <= MAX_CELL_COUNT && requiredBytes(stationCount) <= memoryBudget;
+    }
+
+    private static long cellCount(int stationCount) {
+        return (long) stationCount * stationCount;
+    }
+
+    public int distance(Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+        return requireDistance(source, target);
+    }
+
+    @Override
+    public Path findPath(Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+        final int distance = requireDistance(source, target);
+
+        final List<Station> stations = new ArrayList<>();
+        final List<Section> sections = new ArrayList<>();
+        int vertex = source;
+        stations.add(graph.getStation(vertex));
+        while (vertex != target) {
+            final int edge = nextHops[vertex * stationCount + target];
+            sections.add(graph.section(edge));
+            vertex = graph.neighbor(edge);
+            stations.add(graph.getStation(vertex));
+        }
+        return new Path(stations, distance, sections);
+    }
+
+    private int requireDistance(int source, int target) {
+        final int distance = distances[source * stationCount + target];
+        if (distance == SearchFrontier.UNREACHABLE) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+        return distance;
+    }
+
+    private static class SourceRangeTask extends RecursiveAction {
+
+        private static final int SOURCES_PER_TASK = 16;
+
+        private final RoutingGraph graph;
+        private final int[] distances;
+        private final int[] nextHops;
+        private final int from;
+        private final int to;
+
+        SourceRangeTask(RoutingGraph graph, int[] distances, int[] nextHops, int from, int to) {
+            this.graph = graph;
+            this.distances = distances;
+            this.nextHops = nextHops;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SOURCES_PER_TASK) {
+                computeRows();
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new SourceRangeTask(graph, distances, nextHops, from, middle),
+                    new SourceRangeTask(graph, distances, nextHops, middle, to));
+        }
+
+        private void computeRows() {
+            final SearchFrontier frontier = new SearchFrontier(graph);
+            for (int source = from; source < to; source++) {
+                frontier.clear();
+                fillRow(frontier, source);
+            }
+        }
+
+        private void fillRow(SearchFrontier frontier, int source) {
+            final int stationCount = graph.getStationCount();
+            final int row = source * stationCount;
+            final int[] previousEdges = frontier.getPreviousEdges();
+            frontier.improve(source, RoutingGraph.NO_EDGE, 0);
+
+            while (frontier.hasNext()) {
+                final int vertex = frontier.next();
+                final int distance = frontier.distanceOf(vertex);
+                distances[row + vertex] = distance;
+                if (vertex != source) {
+                    final int edge = previousEdges[vertex];
+                    final int origin = graph.origin(edge);
+                    nextHops[row + vertex] = origin == source ? edge : nextHops[row + origin];
+                }
+                for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                    frontier.improve(graph.neighbor(edge), edge, distance + graph.distance(edge));
+                }
+            }
+        }
+    }
+}
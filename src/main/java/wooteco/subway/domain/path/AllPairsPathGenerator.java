@@ -0,0 +1,33 @@
+package wooteco.subway.domain.path;
+
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "all-pairs")
+public class AllPairsPathGenerator implements PathGenerator {
+
+    private final long memoryBudget;
+    private final BackgroundPreparer preparer = new BackgroundPreparer("all-pairs-matrix");
+    private final BidirectionalPathGenerator fallbackGenerator = new BidirectionalPathGenerator();
+
+    public AllPairsPathGenerator(@Value("${subway.path.all-pairs.memory-budget:67108864}") long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        final PathFinder fallback = fallbackGenerator.prepare(graph);
+        if (!AllPairsMatrix.fitsIn(graph.getStationCount(), memoryBudget)) {
+            return fallback;
+        }
+        return preparer.prepare(graph, fallback, AllPairsMatrix::from);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        preparer.shutdown();
+    }
+}
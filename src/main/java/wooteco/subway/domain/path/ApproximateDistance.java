@@ -0,0 +1,28 @@
+package wooteco.subway.domain.path;
+
+public class ApproximateDistance {
+
+    private final int lowerBound;
+    private final int upperBound;
+
+    ApproximateDistance(int lowerBound, int upperBound) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public int getEstimate() {
+        return lowerBound + (upperBound - lowerBound) / 2;
+    }
+
+    public int getLowerBound() {
+        return lowerBound;
+    }
+
+    public int getUpperBound() {
+        return upperBound;
+    }
+
+    public boolean isExact() {
+        return lowerBound == upperBound;
+    }
+}
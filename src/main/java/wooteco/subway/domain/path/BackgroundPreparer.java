@@ -0,0 +1,96 @@
+package wooteco.subway.domain.path;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import wooteco.subway.domain.Station;
+
+class BackgroundPreparer {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundPreparer.class);
+
+    private final String name;
+    private final ExecutorService executor;
+    private final AtomicReference<RoutingGraph> latestGraph = new AtomicReference<>();
+
+    BackgroundPreparer(String name) {
+        this.name = name;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    PathFinder prepare(RoutingGraph graph, PathFinder fallback, Function<RoutingGraph, PathFinder> preparation) {
+        latestGraph.set(graph);
+        try {
+            final CompletableFuture<PathFinder> prepared = CompletableFuture.supplyAsync(
+                    () -> prepareIfLatest(graph, preparation), executor);
+            prepared.whenComplete((finder, failure) -> logFailure(graph, failure));
+            return new PreparingPathFinder(fallback, prepared);
+        } catch (RejectedExecutionException e) {
+            return fallback;
+        }
+    }
+
+    private PathFinder prepareIfLatest(RoutingGraph graph, Function<RoutingGraph, PathFinder> preparation) {
+        if (latestGraph.get() != graph) {
+            return null;
+        }
+        return preparation.apply(graph);
+    }
+
+    private void logFailure(RoutingGraph graph, Throwable failure) {
+        if (failure != null) {
+            log.error("{} 사전 계산에 실패해 역 {}개 노선도를 요청마다 탐색합니다.", name, graph.getStationCount(),
+                    failure);
+        }
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    static class PreparingPathFinder implements PathFinder {
+
+        private final PathFinder fallback;
+        private final CompletableFuture<PathFinder> prepared;
+
+        PreparingPathFinder(PathFinder fallback, CompletableFuture<PathFinder> prepared) {
+            this.fallback = fallback;
+            this.prepared = prepared;
+        }
+
+        @Override
+        public Path findPath(Station sourceStation, Station targetStation) {
+            return currentFinder().findPath(sourceStation, targetStation);
+        }
+
+        @Override
+        public PreparationState getPreparationState() {
+            if (!prepared.isDone()) {
+                return PreparationState.PREPARING;
+            }
+            if (prepared.isCompletedExceptionally()) {
+                return PreparationState.FAILED;
+            }
+            if (prepared.join() == null) {
+                return PreparationState.SKIPPED;
+            }
+            return PreparationState.READY;
+        }
+
+        private PathFinder currentFinder() {
+            if (getPreparationState() == PreparationState.READY) {
+                return prepared.join();
+            }
+            return fallback;
+        }
+    }
+}
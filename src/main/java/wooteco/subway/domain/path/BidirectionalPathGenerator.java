@@ -0,0 +1,91 @@
+package wooteco.subway.domain.path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "bidirectional")
+public class BidirectionalPathGenerator implements PathGenerator {
+
+    @Override
+    public boolean readsGraphDirectly() {
+        return true;
+    }
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        return (sourceStation, targetStation) -> findPath(graph, sourceStation, targetStation);
+    }
+
+    private Path findPath(RoutingGraph graph, Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        final SearchFrontier forward = new SearchFrontier(graph);
+        final SearchFrontier backward = new SearchFrontier(graph);
+        forward.improve(source, RoutingGraph.NO_EDGE, 0);
+        backward.improve(target, RoutingGraph.NO_EDGE, 0);
+
+        final Meeting meeting = new Meeting(source, target);
+        while (forward.hasNext() && backward.hasNext() && !meeting.isSettledBy(forward, backward)) {
+            if (forward.peekDistance() <= backward.peekDistance()) {
+                scan(graph, forward, backward, meeting);
+                continue;
+            }
+            scan(graph, backward, forward, meeting);
+        }
+
+        if (!meeting.isFound()) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+        return graph.toPath(source, meeting.vertex, target,
+                forward.getPreviousEdges(), backward.getPreviousEdges(), meeting.distance);
+    }
+
+    private void scan(RoutingGraph graph, SearchFrontier frontier, SearchFrontier opposite, Meeting meeting) {
+        final int vertex = frontier.next();
+        final int distance = frontier.distanceOf(vertex);
+
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            final int neighbor = graph.neighbor(edge);
+            final int candidate = distance + graph.distance(edge);
+            if (frontier.improve(neighbor, edge, candidate)) {
+                meeting.update(neighbor, candidate, opposite.distanceOf(neighbor));
+            }
+        }
+    }
+
+    private static class Meeting {
+
+        private int vertex = RoutingGraph.NO_VERTEX;
+        private int distance = SearchFrontier.UNREACHABLE;
+
+        Meeting(int source, int target) {
+            if (source == target) {
+                vertex = source;
+                distance = 0;
+            }
+        }
+
+        void update(int candidateVertex, int distance, int oppositeDistance) {
+            if (oppositeDistance == SearchFrontier.UNREACHABLE) {
+                return;
+            }
+            final long total = (long) distance + oppositeDistance;
+            if (total < this.distance) {
+                this.vertex = candidateVertex;
+                this.distance = (int) total;
+            }
+        }
+
+        boolean isSettledBy(SearchFrontier forward, SearchFrontier backward) {
+            return (long) forward.peekDistance() + backward.peekDistance() >= distance;
+        }
+
+        boolean isFound() {
+            return vertex != RoutingGraph.NO_VERTEX;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+public class CachedPath {
+
+    private static final int NO_EXTRA_FARE = 0;
+
+    private final Path path;
+    private final int maxExtraFare;
+
+    private CachedPath(Path path, int maxExtraFare) {
+        this.path = path;
+        this.maxExtraFare = maxExtraFare;
+    }
+
+    public static CachedPath from(Path path) {
+        final int maxExtraFare = path.getShortestEdge().stream()
+                .mapToInt(section -> section.getLine().getExtraFare())
+                .max()
+                .orElse(NO_EXTRA_FARE);
+        return new CachedPath(path, maxExtraFare);
+    }
+
+    CachedPath reverse() {
+        final List<Station> stations = new ArrayList<>(path.getShortestPath());
+        final List<Section> sections = new ArrayList<>(path.getShortestEdge());
+        Collections.reverse(stations);
+        Collections.reverse(sections);
+        return new CachedPath(new Path(stations, path.getShortestPathWeight(), sections), maxExtraFare);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getDistance() {
+        return path.getShortestPathWeight();
+    }
+
+    public int getMaxExtraFare() {
+        return maxExtraFare;
+    }
+}
@@ -0,0 +1,341 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class ChainCompressedGraph implements PathFinder {
+
+    private static final int NO_CHAIN = -1;
+    private static final int CHAIN_DEGREE = 2;
+
+    private final RoutingGraph graph;
+    private final int coreCount;
+    private final int[] chainStarts;
+    private final int[] chainEnds;
+    private final int[] chainOffsets;
+    private final int[] chainEdges;
+    private final int[] chainDistances;
+    private final int[] vertexChains;
+    private final int[] vertexPositions;
+    private final int[] shortcutOffsets;
+    private final int[] shortcuts;
+
+    private ChainCompressedGraph(ChainBuilder builder) {
+        this.graph = builder.graph;
+        this.coreCount = builder.coreCount;
+        this.chainStarts = builder.chainStarts.toArray();
+        this.chainEnds = builder.chainEnds.toArray();
+        this.chainOffsets = builder.chainOffsets.toArray();
+        this.chainEdges = builder.chainEdges.toArray();
+        this.chainDistances = builder.chainDistances.toArray();
+        this.vertexChains = builder.vertexChains;
+        this.vertexPositions = builder.vertexPositions;
+        this.shortcutOffsets = new int[graph.getStationCount() + 1];
+        this.shortcuts = new int[chainStarts.length * 2];
+        linkShortcuts();
+    }
+
+    public static ChainCompressedGraph from(RoutingGraph graph) {
+        return new ChainCompressedGraph(new ChainBuilder(graph).build());
+    }
+
+    private void linkShortcuts() {
+        for (int chain = 0; chain < chainStarts.length; chain++) {
+            shortcutOffsets[chainStarts[chain] + 1]++;
+            shortcutOffsets[chainEnds[chain] + 1]++;
+        }
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            shortcutOffsets[vertex + 1] += shortcutOffsets[vertex];
+        }
+        final int[] cursors = Arrays.copyOf(shortcutOffsets, graph.getStationCount());
+        for (int chain = 0; chain < chainStarts.length; chain++) {
+            shortcuts[cursors[chainStarts[chain]]++] = chain;
+            shortcuts[cursors[chainEnds[chain]]++] = ~chain;
+        }
+    }
+
+    @Override
+    public Path findPath(Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+        final SearchWorkspace workspace = SearchWorkspace.acquire(graph);
+        seed(workspace, source);
+
+        final Destination destination = new Destination(source, target);
+        while (workspace.hasNext()) {
+            final int vertex = workspace.next();
+            final int distance = workspace.distanceOf(vertex);
+            if (distance >= destination.distance) {
+                break;
+            }
+            if (vertex == target) {
+                destination.reachCore(vertex, distance);
+                break;
+            }
+            destination.reachChainEnd(vertex, distance);
+            relax(workspace, vertex, distance);
+        }
+        if (destination.distance == SearchFrontier.UNREACHABLE) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+        return expand(source, destination, workspace.getPreviousEdges());
+    }
+
+    private void seed(SearchWorkspace workspace, int source) {
+        final int chain = vertexChains[source];
+        if (chain == NO_CHAIN) {
+            workspace.improve(source, RoutingGraph.NO_EDGE, 0);
+            return;
+        }
+        final int distanceFromStart = positionDistance(chain, vertexPositions[source]);
+        workspace.improve(chainStarts[chain], RoutingGraph.NO_EDGE, distanceFromStart);
+        workspace.improve(chainEnds[chain], RoutingGraph.NO_EDGE, chainDistance(chain) - distanceFromStart);
+    }
+
+    private void relax(SearchWorkspace workspace, int vertex, int distance) {
+        for (int index = shortcutOffsets[vertex]; index < shortcutOffsets[vertex + 1]; index++) {
+            final int chain = chainOf(shortcuts[index]);
+            final int neighbor = shortcuts[index] >= 0 ? chainEnds[chain] : chainStarts[chain];
+            if (!workspace.isSettled(neighbor)) {
+                workspace.improve(neighbor, index, distance + chainDistance(chain));
+            }
+        }
+    }
+
+    private Path expand(int source, Destination destination, int[] previousShortcuts) {
+        final List<int[]> segments = new ArrayList<>();
+        if (destination.via != RoutingGraph.NO_VERTEX) {
+            int vertex = destination.via;
+            while (previousShortcuts[vertex] != RoutingGraph.NO_EDGE) {
+                final int shortcut = shortcuts[previousShortcuts[vertex]];
+                final int chain = chainOf(shortcut);
+                final int length = chainLength(chain);
+                segments.add(shortcut >= 0 ? new int[]{chain, 0, length} : new int[]{chain, length, 0});
+                vertex = shortcut >= 0 ? chainStarts[chain] : chainEnds[chain];
+            }
+            addSourceSegment(segments, source, vertex);
+            Collections.reverse(segments);
+        }
+        if (destination.chain != NO_CHAIN) {
+            segments.add(new int[]{destination.chain, destination.fromPosition, destination.toPosition});
+        }
+
+        final List<Station> stations = new ArrayList<>();
+        final List<Section> sections = new ArrayList<>();
+        stations.add(graph.getStation(source));
+        for (int[] segment : segments) {
+            expandSegment(segment[0], segment[1], segment[2], stations, sections);
+        }
+        return new Path(stations, destination.distance, sections);
+    }
+
+    private void addSourceSegment(List<int[]> segments, int source, int root) {
+        final int chain = vertexChains[source];
+        if (chain == NO_CHAIN) {
+            return;
+        }
+        final int position = vertexPositions[source];
+        final int distanceFromStart = positionDistance(chain, position);
+        final boolean fromStart = root == chainStarts[chain]
+                && (root != chainEnds[chain] || distanceFromStart <= chainDistance(chain) - distanceFromStart);
+        segments.add(new int[]{chain, position, fromStart ? 0 : chainLength(chain)});
+    }
+
+    private void expandSegment(int chain, int fromPosition, int toPosition, List<Station> stations,
+                               List<Section> sections) {
+        final int offset = chainOffsets[chain];
+        for (int position = fromPosition; position < toPosition; position++) {
+            final int edge = chainEdges[offset + position];
+            sections.add(graph.section(edge));
+            stations.add(graph.getStation(graph.neighbor(edge)));
+        }
+        for (int position = fromPosition - 1; position >= toPosition; position--) {
+            final int edge = chainEdges[offset + position];
+            sections.add(graph.section(edge));
+            stations.add(graph.getStation(graph.origin(edge)));
+        }
+    }
+
+    private int chainOf(int shortcut) {
+        return shortcut >= 0 ? shortcut : ~shortcut;
+    }
+
+    private int chainLength(int chain) {
+        return chainOffsets[chain + 1] - chainOffsets[chain];
+    }
+
+    private int chainDistance(int chain) {
+        return chainDistances[chainOffsets[chain + 1] - 1];
+    }
+
+    private int positionDistance(int chain, int position) {
+        if (position == 0) {
+            return 0;
+        }
+        return chainDistances[chainOffsets[chain] + position - 1];
+    }
+
+    public int getStationCount() {
+        return graph.getStationCount();
+    }
+
+    public int getCoreCount() {
+        return coreCount;
+    }
+
+    public int getShortcutCount() {
+        return chainStarts.length;
+    }
+
+    private class Destination {
+
+        private final int target;
+        private final int chain;
+        private final int position;
+        private int via = RoutingGraph.NO_VERTEX;
+        private int fromPosition;
+        private int toPosition;
+        private int distance = SearchFrontier.UNREACHABLE;
+
+        private Destination(int source, int target) {
+            this.target = target;
+            this.chain = vertexChains[target];
+            this.position = vertexPositions[target];
+            if (chain != NO_CHAIN && vertexChains[source] == chain) {
+                fromPosition = vertexPositions[source];
+                toPosition = position;
+                distance = Math.abs(positionDistance(chain, position) - positionDistance(chain, fromPosition));
+            }
+        }
+
+        private void reachCore(int vertex, int distance) {
+            this.via = vertex;
+            this.distance = distance;
+        }
+
+        private void reachChainEnd(int vertex, int distance) {
+            if (chain == NO_CHAIN) {
+                return;
+            }
+            final int distanceFromStart = positionDistance(chain, position);
+            if (vertex == chainStarts[chain]) {
+                reachThroughChain(vertex, 0, distance + distanceFromStart);
+            }
+            if (vertex == chainEnds[chain]) {
+                reachThroughChain(vertex, chainLength(chain), distance + chainDistance(chain) - distanceFromStart);
+            }
+        }
+
+        private void reachThroughChain(int vertex, int entryPosition, int candidate) {
+            if (candidate < distance) {
+                via = vertex;
+                fromPosition = entryPosition;
+                toPosition = position;
+                distance = candidate;
+            }
+        }
+    }
+
+    private static class ChainBuilder {
+
+        private final RoutingGraph graph;
+        private final boolean[] cores;
+        private final boolean[] visitedEdges;
+        private final int[] vertexChains;
+        private final int[] vertexPositions;
+        private final IntArrayList chainStarts = new IntArrayList();
+        private final IntArrayList chainEnds = new IntArrayList();
+        private final IntArrayList chainOffsets = new IntArrayList();
+        private final IntArrayList chainEdges = new IntArrayList();
+        private final IntArrayList chainDistances = new IntArrayList();
+        private int coreCount;
+
+        private ChainBuilder(RoutingGraph graph) {
+            this.graph = graph;
+            this.cores = new boolean[graph.getStationCount()];
+            this.visitedEdges = new boolean[graph.getEdgeCount()];
+            this.vertexChains = new int[graph.getStationCount()];
+            this.vertexPositions = new int[graph.getStationCount()];
+            Arrays.fill(vertexChains, NO_CHAIN);
+            chainOffsets.add(0);
+        }
+
+        private ChainBuilder build() {
+            for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+                if (graph.lastEdge(vertex) - graph.firstEdge(vertex) != CHAIN_DEGREE) {
+                    cores[vertex] = true;
+                    coreCount++;
+                }
+            }
+            for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+                if (cores[vertex]) {
+                    walkChains(vertex);
+                }
+            }
+            for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+                if (!cores[vertex] && vertexChains[vertex] == NO_CHAIN) {
+                    cores[vertex] = true;
+                    coreCount++;
+                    walkChains(vertex);
+                }
+            }
+            return this;
+        }
+
+        private void walkChains(int core) {
+            for (int edge = graph.firstEdge(core); edge < graph.lastEdge(core); edge++) {
+                if (!visitedEdges[edge]) {
+                    walkChain(core, edge);
+                }
+            }
+        }
+
+        private void walkChain(int core, int firstEdge) {
+            final int chain = chainStarts.size();
+            int edge = firstEdge;
+            int position = 0;
+            int distance = 0;
+            visitedEdges[edge] = true;
+            while (true) {
+                chainEdges.add(edge);
+                distance += graph.distance(edge);
+                chainDistances.add(distance);
+                final int vertex = graph.neighbor(edge);
+                if (cores[vertex]) {
+                    visitedEdges[reverseEdge(edge)] = true;
+                    chainStarts.add(core);
+                    chainEnds.add(vertex);
+                    chainOffsets.add(chainEdges.size());
+                    return;
+                }
+                vertexChains[vertex] = chain;
+                vertexPositions[vertex] = ++position;
+                edge = nextEdge(vertex, edge);
+            }
+        }
+
+        private int nextEdge(int vertex, int previousEdge) {
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                if (graph.section(edge) != graph.section(previousEdge)) {
+                    return edge;
+                }
+            }
+            throw new IllegalStateException("다음 구간을 찾을 수 없습니다.");
+        }
+
+        private int reverseEdge(int edge) {
+            final int vertex = graph.neighbor(edge);
+            for (int reverse = graph.firstEdge(vertex); reverse < graph.lastEdge(vertex); reverse++) {
+                if (graph.section(reverse) == graph.section(edge)) {
+                    return reverse;
+                }
+            }
+            throw new IllegalStateException("반대 방향 구간을 찾을 수 없습니다.");
+        }
+    }
+}
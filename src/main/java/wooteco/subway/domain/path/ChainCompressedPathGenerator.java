@@ -0,0 +1,14 @@
+package wooteco.subway.domain.path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "chain-compressed")
+public class ChainCompressedPathGenerator implements PathGenerator {
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        return ChainCompressedGraph.from(graph);
+    }
+}
@@ -0,0 +1,104 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class CheapestPathFinder {
+
+    private static final int NO_LABEL = -1;
+    private static final int NO_FARE = Integer.MAX_VALUE;
+
+    private final RoutingGraph graph;
+    private final IntArrayList labelVertices = new IntArrayList();
+    private final IntArrayList labelDistances = new IntArrayList();
+    private final IntArrayList labelExtraFares = new IntArrayList();
+    private final IntArrayList labelParents = new IntArrayList();
+    private final IntArrayList labelEdges = new IntArrayList();
+    private final DistanceHeap heap = new DistanceHeap();
+    private final int[] settledExtraFares;
+
+    public CheapestPathFinder(RoutingGraph graph) {
+        this.graph = graph;
+        this.settledExtraFares = new int[graph.getStationCount()];
+        Arrays.fill(settledExtraFares, NO_FARE);
+    }
+
+    public Path findPath(Station sourceStation, Station targetStation, IntBinaryOperator fareCalculator) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        int bestLabel = NO_LABEL;
+        int bestFare = NO_FARE;
+        push(source, 0, 0, NO_LABEL, RoutingGraph.NO_EDGE);
+        while (!heap.isEmpty()) {
+            final int distance = heap.peekDistance();
+            if (fareCalculator.applyAsInt(distance, 0) >= bestFare) {
+                break;
+            }
+            final int label = heap.poll();
+            final int vertex = labelVertices.get(label);
+            final int extraFare = labelExtraFares.get(label);
+            if (extraFare >= settledExtraFares[vertex]) {
+                continue;
+            }
+            settledExtraFares[vertex] = extraFare;
+
+            final int fare = fareCalculator.applyAsInt(distance, extraFare);
+            if (vertex == target && fare < bestFare) {
+                bestLabel = label;
+                bestFare = fare;
+            }
+            if (vertex != target && fare < bestFare) {
+                relax(label, vertex, distance, extraFare);
+            }
+        }
+
+        if (bestLabel == NO_LABEL) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+        return toPath(bestLabel);
+    }
+
+    private void relax(int label, int vertex, int distance, int extraFare) {
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            final int neighbor = graph.neighbor(edge);
+            final int nextExtraFare = Math.max(extraFare, graph.extraFare(edge));
+            if (nextExtraFare < settledExtraFares[neighbor]) {
+                push(neighbor, distance + graph.distance(edge), nextExtraFare, label, edge);
+            }
+        }
+    }
+
+    private void push(int vertex, int distance, int extraFare, int parent, int edge) {
+        final int label = labelVertices.size();
+        labelVertices.add(vertex);
+        labelDistances.add(distance);
+        labelExtraFares.add(extraFare);
+        labelParents.add(parent);
+        labelEdges.add(edge);
+        heap.push(label, distance);
+    }
+
+    private Path toPath(int targetLabel) {
+        final List<Station> stations = new ArrayList<>();
+        final List<Section> sections = new ArrayList<>();
+
+        int label = targetLabel;
+        stations.add(graph.getStation(labelVertices.get(label)));
+        while (labelParents.get(label) != NO_LABEL) {
+            sections.add(graph.section(labelEdges.get(label)));
+            label = labelParents.get(label);
+            stations.add(graph.getStation(labelVertices.get(label)));
+        }
+        Collections.reverse(stations);
+        Collections.reverse(sections);
+
+        return new Path(stations, labelDistances.get(targetLabel), sections);
+    }
+}
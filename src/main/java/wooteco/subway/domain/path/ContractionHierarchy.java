@@ -0,0 +1,392 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class ContractionHierarchy implements PathFinder {
+
+    private static final int ORIGINAL_EDGE = -1;
+
+    private final RoutingGraph graph;
+    private final int[] edgeEnds;
+    private final int[] edgeMiddles;
+    private final int[] edgeChildren;
+    private final int[] edgeArcs;
+    private final int[] upwardOffsets;
+    private final int[] upwardEdges;
+    private final int[] upwardWeights;
+    private final int shortcutCount;
+
+    private ContractionHierarchy(RoutingGraph graph, Contractor contractor, int[] ranks) {
+        this.graph = graph;
+        this.edgeEnds = contractor.edgeEnds.toArray();
+        this.edgeMiddles = contractor.edgeMiddles.toArray();
+        this.edgeChildren = contractor.edgeChildren.toArray();
+        this.edgeArcs = contractor.edgeArcs.toArray();
+        this.shortcutCount = contractor.shortcutCount;
+
+        final int vertexCount = graph.getStationCount();
+        final int edgeCount = edgeMiddles.length;
+        this.upwardOffsets = new int[vertexCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            upwardOffsets[lowerEnd(edge, ranks) + 1]++;
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            upwardOffsets[vertex + 1] += upwardOffsets[vertex];
+        }
+
+        this.upwardEdges = new int[edgeCount];
+        this.upwardWeights = new int[edgeCount];
+        final int[] cursors = upwardOffsets.clone();
+        for (int edge = 0; edge < edgeCount; edge++) {
+            final int position = cursors[lowerEnd(edge, ranks)]++;
+            upwardEdges[position] = edge;
+            upwardWeights[position] = contractor.edgeWeights.get(edge);
+        }
+    }
+
+    public static ContractionHierarchy from(RoutingGraph graph) {
+        final Contractor contractor = new Contractor(graph);
+        final int[] ranks = contractor.contractAll();
+        return new ContractionHierarchy(graph, contractor, ranks);
+    }
+
+    private int lowerEnd(int edge, int[] ranks) {
+        final int first = edgeEnds[edge * 2];
+        final int second = edgeEnds[edge * 2 + 1];
+        if (ranks[first] < ranks[second]) {
+            return first;
+        }
+        return second;
+    }
+
+    private int otherEnd(int edge, int vertex) {
+        final int first = edgeEnds[edge * 2];
+        if (first == vertex) {
+            return edgeEnds[edge * 2 + 1];
+        }
+        return first;
+    }
+
+    @Override
+    public Path findPath(Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        final SearchFrontier forward = new SearchFrontier(graph);
+        final SearchFrontier backward = new SearchFrontier(graph);
+        forward.improve(source, RoutingGraph.NO_EDGE, 0);
+        backward.improve(target, RoutingGraph.NO_EDGE, 0);
+
+        int bestDistance = SearchFrontier.UNREACHABLE;
+        int meeting = RoutingGraph.NO_VERTEX;
+        while (Math.min(forward.peekDistance(), backward.peekDistance()) < bestDistance) {
+            final boolean forwardTurn = forward.peekDistance() <= backward.peekDistance();
+            final SearchFrontier frontier = forwardTurn ? forward : backward;
+            final SearchFrontier opposite = forwardTurn ? backward : forward;
+
+            final int vertex = frontier.next();
+            final int distance = frontier.distanceOf(vertex);
+            final int oppositeDistance = opposite.distanceOf(vertex);
+            if (oppositeDistance != SearchFrontier.UNREACHABLE && distance + oppositeDistance < bestDistance) {
+                bestDistance = distance + oppositeDistance;
+                meeting = vertex;
+            }
+            relaxUpward(frontier, vertex, distance);
+        }
+
+        if (meeting == RoutingGraph.NO_VERTEX) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+        return unpack(source, meeting, target, forward, backward, bestDistance);
+    }
+
+    private void relaxUpward(SearchFrontier frontier, int vertex, int distance) {
+        for (int position = upwardOffsets[vertex]; position < upwardOffsets[vertex + 1]; position++) {
+            final int edge = upwardEdges[position];
+            frontier.improve(otherEnd(edge, vertex), edge, distance + upwardWeights[position]);
+        }
+    }
+
+    private Path unpack(int source, int meeting, int target, SearchFrontier forward, SearchFrontier backward,
+                        int distance) {
+        final List<Station> stations = new ArrayList<>();
+        final List<Section> sections = new ArrayList<>();
+        stations.add(graph.getStation(source));
+
+        final int[] forwardEdges = collectEdges(meeting, source, forward.getPreviousEdges());
+        int vertex = source;
+        for (int index = forwardEdges.length - 1; index >= 0; index--) {
+            vertex = expand(forwardEdges[index], vertex, stations, sections);
+        }
+
+        final int[] backwardEdges = collectEdges(meeting, target, backward.getPreviousEdges());
+        for (int edge : backwardEdges) {
+            vertex = expand(edge, vertex, stations, sections);
+        }
+
+        return new Path(stations, distance, sections);
+    }
+
+    private int[] collectEdges(int from, int root, int[] previousEdges) {
+        final IntArrayList edges = new IntArrayList();
+        int vertex = from;
+        while (vertex != root) {
+            final int edge = previousEdges[vertex];
+            edges.add(edge);
+            vertex = otherEnd(edge, vertex);
+        }
+        return edges.toArray();
+    }
+
+    private int expand(int edge, int from, List<Station> stations, List<Section> sections) {
+        final Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{edge, from});
+        int vertex = from;
+
+        while (!stack.isEmpty()) {
+            final int[] traversal = stack.pop();
+            final int current = traversal[0];
+            final int start = traversal[1];
+            if (edgeMiddles[current] == ORIGINAL_EDGE) {
+                vertex = otherEnd(current, start);
+                sections.add(graph.section(edgeArcs[current]));
+                stations.add(graph.getStation(vertex));
+                continue;
+            }
+            final int middle = edgeMiddles[current];
+            final int firstChild = edgeChildren[current * 2];
+            final int secondChild = edgeChildren[current * 2 + 1];
+            if (start == edgeEnds[current * 2]) {
+                stack.push(new int[]{secondChild, middle});
+                stack.push(new int[]{firstChild, start});
+                continue;
+            }
+            stack.push(new int[]{firstChild, middle});
+            stack.push(new int[]{secondChild, start});
+        }
+        return vertex;
+    }
+
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    private static class Contractor {
+
+        private static final int WITNESS_SETTLE_LIMIT = 500;
+        private static final int PRIORITY_OFFSET = 1 << 20;
+
+        private final int vertexCount;
+        private final IntArrayList edgeEnds = new IntArrayList();
+        private final IntArrayList edgeWeights = new IntArrayList();
+        private final IntArrayList edgeMiddles = new IntArrayList();
+        private final IntArrayList edgeChildren = new IntArrayList();
+        private final IntArrayList edgeArcs = new IntArrayList();
+        private final IntArrayList[] adjacency;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] witnessDistances;
+        private final IntArrayList touched = new IntArrayList();
+        private final DistanceHeap witnessHeap = new DistanceHeap();
+        private final IntArrayList neighbors = new IntArrayList();
+        private final IntArrayList neighborEdges = new IntArrayList();
+        private int shortcutCount;
+
+        Contractor(RoutingGraph graph) {
+            this.vertexCount = graph.getStationCount();
+            this.adjacency = new IntArrayList[vertexCount];
+            this.contracted = new boolean[vertexCount];
+            this.contractedNeighbors = new int[vertexCount];
+            this.witnessDistances = new int[vertexCount];
+            Arrays.fill(witnessDistances, SearchFrontier.UNREACHABLE);
+
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                adjacency[vertex] = new IntArrayList();
+            }
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                for (int arc = graph.firstEdge(vertex); arc < graph.lastEdge(vertex); arc++) {
+                    final int neighbor = graph.neighbor(arc);
+                    if (vertex < neighbor) {
+                        addEdge(vertex, neighbor, graph.distance(arc), ORIGINAL_EDGE, ORIGINAL_EDGE, ORIGINAL_EDGE, arc);
+                    }
+                }
+            }
+        }
+
+        int[] contractAll() {
+            final PriorityQueue<Long> queue = new PriorityQueue<>();
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                queue.add(encode(priorityOf(vertex), vertex));
+            }
+
+            final int[] ranks = new int[vertexCount];
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                final int vertex = (int) (queue.poll() & 0xFFFFFFFFL);
+                final long updated = encode(priorityOf(vertex), vertex);
+                if (!queue.isEmpty() && updated > queue.peek()) {
+                    queue.add(updated);
+                    continue;
+                }
+                contract(vertex);
+                ranks[vertex] = rank++;
+            }
+            return ranks;
+        }
+
+        private long encode(int priority, int vertex) {
+            return ((long) (priority + PRIORITY_OFFSET) << Integer.SIZE) | vertex;
+        }
+
+        private int priorityOf(int vertex) {
+            final int shortcuts = processNeighbors(vertex, false);
+            return shortcuts - neighbors.size() + contractedNeighbors[vertex];
+        }
+
+        private void contract(int vertex) {
+            processNeighbors(vertex, true);
+            contracted[vertex] = true;
+            for (int index = 0; index < neighbors.size(); index++) {
+                contractedNeighbors[neighbors.get(index)]++;
+            }
+        }
+
+        private int processNeighbors(int vertex, boolean addShortcuts) {
+            collectNeighbors(vertex);
+            int shortcuts = 0;
+            for (int i = 0; i < neighbors.size(); i++) {
+                final int from = neighbors.get(i);
+                final int fromWeight = edgeWeights.get(neighborEdges.get(i));
+                final int limit = fromWeight + maxNeighborWeight(i);
+                searchWitness(from, vertex, limit);
+
+                for (int j = i + 1; j < neighbors.size(); j++) {
+                    final int to = neighbors.get(j);
+                    final int candidate = fromWeight + edgeWeights.get(neighborEdges.get(j));
+                    if (witnessDistances[to] <= candidate) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (addShortcuts) {
+                        addEdge(from, to, candidate, vertex, neighborEdges.get(i), neighborEdges.get(j),
+                                ORIGINAL_EDGE);
+                        shortcutCount++;
+                    }
+                }
+                resetWitness();
+            }
+            return shortcuts;
+        }
+
+        private void collectNeighbors(int vertex) {
+            neighbors.clear();
+            neighborEdges.clear();
+            final IntArrayList edges = adjacency[vertex];
+            for (int index = 0; index < edges.size(); index++) {
+                final int edge = edges.get(index);
+                final int neighbor = otherEnd(edge, vertex);
+                if (!contracted[neighbor]) {
+                    addNeighbor(neighbor, edge);
+                }
+            }
+        }
+
+        private void addNeighbor(int neighbor, int edge) {
+            for (int index = 0; index < neighbors.size(); index++) {
+                if (neighbors.get(index) == neighbor) {
+                    if (edgeWeights.get(edge) < edgeWeights.get(neighborEdges.get(index))) {
+                        neighborEdges.set(index, edge);
+                    }
+                    return;
+                }
+            }
+            neighbors.add(neighbor);
+            neighborEdges.add(edge);
+        }
+
+        private int maxNeighborWeight(int excludedIndex) {
+            int max = 0;
+            for (int index = excludedIndex + 1; index < neighbors.size(); index++) {
+                max = Math.max(max, edgeWeights.get(neighborEdges.get(index)));
+            }
+            return max;
+        }
+
+        private void searchWitness(int source, int excluded, int limit) {
+            witnessDistances[source] = 0;
+            touched.add(source);
+            witnessHeap.clear();
+            witnessHeap.push(source, 0);
+
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+                final int distance = witnessHeap.peekDistance();
+                final int vertex = witnessHeap.poll();
+                if (distance > witnessDistances[vertex]) {
+                    continue;
+                }
+                if (distance > limit) {
+                    break;
+                }
+                settled++;
+                relaxWitness(vertex, distance, excluded);
+            }
+        }
+
+        private void relaxWitness(int vertex, int distance, int excluded) {
+            final IntArrayList edges = adjacency[vertex];
+            for (int index = 0; index < edges.size(); index++) {
+                final int edge = edges.get(index);
+                final int neighbor = otherEnd(edge, vertex);
+                if (neighbor == excluded || contracted[neighbor]) {
+                    continue;
+                }
+                final int candidate = distance + edgeWeights.get(edge);
+                if (candidate < witnessDistances[neighbor]) {
+                    if (witnessDistances[neighbor] == SearchFrontier.UNREACHABLE) {
+                        touched.add(neighbor);
+                    }
+                    witnessDistances[neighbor] = candidate;
+                    witnessHeap.push(neighbor, candidate);
+                }
+            }
+        }
+
+        private void resetWitness() {
+            for (int index = 0; index < touched.size(); index++) {
+                witnessDistances[touched.get(index)] = SearchFrontier.UNREACHABLE;
+            }
+            touched.clear();
+        }
+
+        private void addEdge(int first, int second, int weight, int middle, int firstChild, int secondChild,
+                             int arc) {
+            final int edge = edgeWeights.size();
+            edgeEnds.add(first);
+            edgeEnds.add(second);
+            edgeWeights.add(weight);
+            edgeMiddles.add(middle);
+            edgeChildren.add(firstChild);
+            edgeChildren.add(secondChild);
+            edgeArcs.add(arc);
+            adjacency[first].add(edge);
+            adjacency[second].add(edge);
+        }
+
+        private int otherEnd(int edge, int vertex) {
+            final int first = edgeEnds.get(edge * 2);
+            if (first == vertex) {
+                return edgeEnds.get(edge * 2 + 1);
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package wooteco.subway.domain.path;
+
+import javax.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "contraction-hierarchy")
+public class ContractionHierarchyPathGenerator implements PathGenerator {
+
+    private final BackgroundPreparer preparer = new BackgroundPreparer("contraction-hierarchy");
+    private final BidirectionalPathGenerator fallbackGenerator = new BidirectionalPathGenerator();
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        return preparer.prepare(graph, fallbackGenerator.prepare(graph), ContractionHierarchy::from);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        preparer.shutdown();
+    }
+}
@@ -0,0 +1,45 @@
+package wooteco.subway.domain.path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "csr")
+public class CsrPathGenerator implements PathGenerator {
+
+    @Override
+    public boolean readsGraphDirectly() {
+        return true;
+    }
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        return (sourceStation, targetStation) -> findPath(graph, sourceStation, targetStation);
+    }
+
+    private Path findPath(RoutingGraph graph, Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        final SearchFrontier frontier = new SearchFrontier(graph);
+        frontier.improve(source, RoutingGraph.NO_EDGE, 0);
+
+        while (frontier.hasNext()) {
+            final int vertex = frontier.next();
+            final int distance = frontier.distanceOf(vertex);
+            if (vertex == target) {
+                return graph.toPath(source, target, frontier.getPreviousEdges(), distance);
+            }
+            relax(graph, frontier, vertex, distance);
+        }
+        throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+    }
+
+    private void relax(RoutingGraph graph, SearchFrontier frontier, int vertex, int distance) {
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            frontier.improve(graph.neighbor(edge), edge, distance + graph.distance(edge));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package wooteco.subway.domain.path;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class DeltaStepping {
+
+    private static final int PARALLEL_THRESHOLD = 256;
+    private static final long EDGE_MASK = 0xFFFFFFFFL;
+    private static final long UNREACHED = pack(SearchFrontier.UNREACHABLE, RoutingGraph.NO_EDGE);
+    private static final int NO_BUCKET = -1;
+
+    private final RoutingGraph graph;
+    private final ForkJoinPool pool;
+    private final int bucketWidth;
+    private final AtomicLongArray labels;
+    private final IntArrayList[] buckets;
+    private final int[] frontierStamps;
+    private final int[] bucketStamps;
+    private int frontierStamp;
+    private int bucketStamp;
+
+    private DeltaStepping(RoutingGraph graph, ForkJoinPool pool, int bucketWidth) {
+        this.graph = graph;
+        this.pool = pool;
+        this.bucketWidth = bucketWidth > 0 ? bucketWidth : defaultBucketWidth(graph);
+        this.labels = new AtomicLongArray(graph.getStationCount());
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            labels.set(vertex, UNREACHED);
+        }
+        this.buckets = new IntArrayList[maxEdgeDistance(graph) / this.bucketWidth + 2];
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            buckets[bucket] = new IntArrayList();
+        }
+        this.frontierStamps = new int[graph.getStationCount()];
+        this.bucketStamps = new int[graph.getStationCount()];
+    }
+
+    public static ShortestPathTree from(RoutingGraph graph, Station sourceStation, int bucketWidth,
+                                        ForkJoinPool pool) {
+        final int source = graph.requireVertex(sourceStation);
+        final DeltaStepping deltaStepping = new DeltaStepping(graph, pool, bucketWidth);
+        deltaStepping.search(source, RoutingGraph.NO_VERTEX);
+        return ShortestPathTree.of(graph, source, deltaStepping.getDistances(), deltaStepping.getPreviousEdges());
+    }
+
+    public static Path findPath(RoutingGraph graph, Station sourceStation, Station targetStation, int bucketWidth,
+                                ForkJoinPool pool) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+        final DeltaStepping deltaStepping = new DeltaStepping(graph, pool, bucketWidth);
+        deltaStepping.search(source, target);
+
+        final int distance = distanceOf(deltaStepping.labels.get(target));
+        if (distance == SearchFrontier.UNREACHABLE) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+        return graph.toPath(source, target, deltaStepping.getPreviousEdges(), distance);
+    }
+
+    private static int defaultBucketWidth(RoutingGraph graph) {
+        long totalDistance = 0;
+        int edgeCount = 0;
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                totalDistance += graph.distance(edge);
+                edgeCount++;
+            }
+        }
+        return (int) Math.max(1, totalDistance / Math.max(edgeCount, 1));
+    }
+
+    private static int maxEdgeDistance(RoutingGraph graph) {
+        int maxDistance = 0;
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                maxDistance = Math.max(maxDistance, graph.distance(edge));
+            }
+        }
+        return maxDistance;
+    }
+
+    private void search(int source, int target) {
+        labels.set(source, pack(0, RoutingGraph.NO_EDGE));
+        insert(source);
+
+        int bucket = nextBucket(0);
+        while (bucket != NO_BUCKET && !isSettledBefore(target, bucket)) {
+            final IntArrayList settled = new IntArrayList();
+            bucketStamp++;
+            while (!slotOf(bucket).isEmpty()) {
+                final int[] frontier = takeFrontier(bucket);
+                for (int vertex : frontier) {
+                    if (bucketStamps[vertex] != bucketStamp) {
+                        bucketStamps[vertex] = bucketStamp;
+                        settled.add(vertex);
+                    }
+                }
+                insertAll(relaxAll(frontier, true));
+            }
+            insertAll(relaxAll(settled.toArray(), false));
+            bucket = nextBucket(bucket + 1);
+        }
+    }
+
+    private boolean isSettledBefore(int target, int bucket) {
+        return target != RoutingGraph.NO_VERTEX
+                && distanceOf(labels.get(target)) < (long) bucket * bucketWidth;
+    }
+
+    private int nextBucket(int from) {
+        for (int offset = 0; offset < buckets.length; offset++) {
+            if (!slotOf(from + offset).isEmpty()) {
+                return from + offset;
+            }
+        }
+        return NO_BUCKET;
+    }
+
+    private IntArrayList slotOf(int bucket) {
+        return buckets[bucket % buckets.length];
+    }
+
+    private int[] takeFrontier(int bucket) {
+        final IntArrayList slot = slotOf(bucket);
+        final IntArrayList frontier = new IntArrayList(slot.size());
+        frontierStamp++;
+        for (int i = 0; i < slot.size(); i++) {
+            final int vertex = slot.get(i);
+            if (bucketOf(vertex) == bucket && frontierStamps[vertex] != frontierStamp) {
+                frontierStamps[vertex] = frontierStamp;
+                frontier.add(vertex);
+            }
+        }
+        slot.clear();
+        return frontier.toArray();
+    }
+
+    private int bucketOf(int vertex) {
+        return distanceOf(labels.get(vertex)) / bucketWidth;
+    }
+
+    private void insertAll(IntArrayList vertices) {
+        for (int i = 0; i < vertices.size(); i++) {
+            insert(vertices.get(i));
+        }
+    }
+
+    private void insert(int vertex) {
+        slotOf(bucketOf(vertex)).add(vertex);
+    }
+
+    private IntArrayList relaxAll(int[] vertices, boolean light) {
+        if (vertices.length <= PARALLEL_THRESHOLD) {
+            return relaxRange(vertices, 0, vertices.length, light);
+        }
+        return pool.invoke(new RelaxTask(vertices, 0, vertices.length, light));
+    }
+
+    private IntArrayList relaxRange(int[] vertices, int from, int to, boolean light) {
+        final IntArrayList improved = new IntArrayList();
+        for (int i = from; i < to; i++) {
+            final int vertex = vertices[i];
+            final int distance = distanceOf(labels.get(vertex));
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                final int edgeDistance = graph.distance(edge);
+                if ((edgeDistance <= bucketWidth) == light
+                        && improve(graph.neighbor(edge), edge, distance + edgeDistance)) {
+                    improved.add(graph.neighbor(edge));
+                }
+            }
+        }
+        return improved;
+    }
+
+    private boolean improve(int vertex, int edge, int distance) {
+        final long label = pack(distance, edge);
+        long current = labels.get(vertex);
+        while (distance < distanceOf(current)) {
+            if (labels.compareAndSet(vertex, current, label)) {
+                return true;
+            }
+            current = labels.get(vertex);
+        }
+        return false;
+    }
+
+    private int[] getDistances() {
+        final int[] distances = new int[labels.length()];
+        for (int vertex = 0; vertex < distances.length; vertex++) {
+            distances[vertex] = distanceOf(labels.get(vertex));
+        }
+        return distances;
+    }
+
+    private int[] getPreviousEdges() {
+        final int[] previousEdges = new int[labels.length()];
+        for (int vertex = 0; vertex < previousEdges.length; vertex++) {
+            previousEdges[vertex] = (int) (labels.get(vertex) & EDGE_MASK);
+        }
+        return previousEdges;
+    }
+
+    private static long pack(int distance, int edge) {
+        return ((long) distance << Integer.SIZE) | (edge & EDGE_MASK);
+    }
+
+    private static int distanceOf(long label) {
+        return (int) (label >>> Integer.SIZE);
+    }
+
+    private class RelaxTask extends RecursiveTask<IntArrayList> {
+
+        private final int[] vertices;
+        private final int from;
+        private final int to;
+        private final boolean light;
+
+        private RelaxTask(int[] vertices, int from, int to, boolean light) {
+            this.vertices = vertices;
+            this.from = from;
+            this.to = to;
+            this.light = light;
+        }
+
+        @Override
+        protected IntArrayList compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return relaxRange(vertices, from, to, light);
+            }
+            final int middle = (from + to) >>> 1;
+            final RelaxTask left = new RelaxTask(vertices, from, middle, light);
+            left.fork();
+            final IntArrayList improved = new RelaxTask(vertices, middle, to, light).compute();
+            final IntArrayList leftImproved = left.join();
+            for (int i = 0; i < leftImproved.size(); i++) {
+                improved.add(leftImproved.get(i));
+            }
+            return improved;
+        }
+    }
+}
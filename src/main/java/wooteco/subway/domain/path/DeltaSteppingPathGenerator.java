@@ -0,0 +1,35 @@
+package wooteco.subway.domain.path;
+
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import wooteco.subway.domain.Station;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "delta-stepping")
+public class DeltaSteppingPathGenerator implements PathGenerator {
+
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+    private final int bucketWidth;
+
+    public DeltaSteppingPathGenerator(@Value("${subway.path.delta-stepping.bucket-width:0}") int bucketWidth) {
+        this.bucketWidth = bucketWidth;
+    }
+
+    @Override
+    public boolean readsGraphDirectly() {
+        return true;
+    }
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        return (sourceStation, targetStation) -> DeltaStepping.findPath(graph, sourceStation, targetStation,
+                bucketWidth, pool);
+    }
+
+    @Override
+    public ShortestPathTree createShortestPathTree(RoutingGraph graph, Station sourceStation) {
+        return DeltaStepping.from(graph, sourceStation, bucketWidth, pool);
+    }
+}
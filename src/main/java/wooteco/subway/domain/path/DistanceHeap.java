@@ -0,0 +1,73 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class DistanceHeap {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long VERTEX_MASK = 0xFFFFFFFFL;
+
+    private long[] elements = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void push(int vertex, int distance) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size] = ((long) distance << Integer.SIZE) | vertex;
+        siftUp(size++);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peekDistance() {
+        return (int) (elements[0] >>> Integer.SIZE);
+    }
+
+    int peekVertex() {
+        return (int) (elements[0] & VERTEX_MASK);
+    }
+
+    int poll() {
+        final long top = elements[0];
+        elements[0] = elements[--size];
+        siftDown(0);
+        return (int) (top & VERTEX_MASK);
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        final long element = elements[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (elements[parent] <= element) {
+                break;
+            }
+            elements[index] = elements[parent];
+            index = parent;
+        }
+        elements[index] = element;
+    }
+
+    private void siftDown(int index) {
+        final long element = elements[index];
+        final int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            if (child + 1 < size && elements[child + 1] < elements[child]) {
+                child++;
+            }
+            if (element <= elements[child]) {
+                break;
+            }
+            elements[index] = elements[child];
+            index = child;
+        }
+        elements[index] = element;
+    }
+}
@@ -0,0 +1,230 @@
+package wooteco.subway.domain.path;
+
+import java.util.Optional;
+import java.util.Random;
+import wooteco.subway.domain.Station;
+
+public class DistanceOracle {
+
+    private static final long SAMPLING_SEED = 0x5EED;
+    private static final int NO_DISTANCE = SearchFrontier.UNREACHABLE;
+
+    private final RoutingGraph graph;
+    private final int level;
+    private final int[][] pivots;
+    private final int[][] pivotDistances;
+    private final int[] offsets;
+    private final int[] members;
+    private final int[] distances;
+
+    private DistanceOracle(RoutingGraph graph, int level, int[][] pivots, int[][] pivotDistances, int[] offsets,
+                           int[] members, int[] distances) {
+        this.graph = graph;
+        this.level = level;
+        this.pivots = pivots;
+        this.pivotDistances = pivotDistances;
+        this.offsets = offsets;
+        this.members = members;
+        this.distances = distances;
+    }
+
+    public static DistanceOracle from(RoutingGraph graph, int level) {
+        if (level < 1) {
+            throw new IllegalArgumentException("거리 추정 단계는 1 이상이어야 합니다.");
+        }
+        final int[] levels = sampleLevels(graph.getStationCount(), level);
+        final int[][] pivots = new int[level][];
+        final int[][] pivotDistances = new int[level][];
+        for (int i = 0; i < level; i++) {
+            pivots[i] = new int[graph.getStationCount()];
+            pivotDistances[i] = findNearestCenters(graph, levels, i, pivots[i]);
+        }
+
+        final IntArrayList[] bunchMembers = new IntArrayList[graph.getStationCount()];
+        final IntArrayList[] bunchDistances = new IntArrayList[graph.getStationCount()];
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            bunchMembers[vertex] = new IntArrayList();
+            bunchDistances[vertex] = new IntArrayList();
+        }
+        for (int center = 0; center < graph.getStationCount(); center++) {
+            final int[] bounds = levels[center] + 1 < level ? pivotDistances[levels[center] + 1] : null;
+            growCluster(graph, center, bounds, bunchMembers, bunchDistances);
+        }
+        return flatten(graph, level, pivots, pivotDistances, bunchMembers, bunchDistances);
+    }
+
+    private static int[] sampleLevels(int vertexCount, int level) {
+        final Random random = new Random(SAMPLING_SEED);
+        final double probability = Math.pow(Math.max(vertexCount, 1), -1.0 / level);
+        final int[] levels = new int[vertexCount];
+        boolean hasTopCenter = level == 1;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            while (levels[vertex] + 1 < level && random.nextDouble() < probability) {
+                levels[vertex]++;
+            }
+            hasTopCenter |= levels[vertex] == level - 1;
+        }
+        if (!hasTopCenter && vertexCount > 0) {
+            levels[random.nextInt(vertexCount)] = level - 1;
+        }
+        return levels;
+    }
+
+    private static int[] findNearestCenters(RoutingGraph graph, int[] levels, int level, int[] pivots) {
+        final SearchFrontier frontier = new SearchFrontier(graph);
+        final int[] previousEdges = frontier.getPreviousEdges();
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            pivots[vertex] = RoutingGraph.NO_VERTEX;
+            if (levels[vertex] >= level) {
+                frontier.improve(vertex, RoutingGraph.NO_EDGE, 0);
+            }
+        }
+        while (frontier.hasNext()) {
+            final int vertex = frontier.next();
+            final int distance = frontier.distanceOf(vertex);
+            final int previousEdge = previousEdges[vertex];
+            pivots[vertex] = previousEdge == RoutingGraph.NO_EDGE ? vertex : pivots[graph.origin(previousEdge)];
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                frontier.improve(graph.neighbor(edge), edge, distance + graph.distance(edge));
+            }
+        }
+        return frontier.getDistances();
+    }
+
+    private static void growCluster(RoutingGraph graph, int center, int[] bounds, IntArrayList[] bunchMembers,
+                                    IntArrayList[] bunchDistances) {
+        final SearchWorkspace workspace = SearchWorkspace.acquire(graph);
+        workspace.improve(center, RoutingGraph.NO_EDGE, 0);
+        while (workspace.hasNext()) {
+            final int vertex = workspace.next();
+            final int distance = workspace.distanceOf(vertex);
+            if (bounds != null && distance >= bounds[vertex]) {
+                continue;
+            }
+            bunchMembers[vertex].add(center);
+            bunchDistances[vertex].add(distance);
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                final int neighbor = graph.neighbor(edge);
+                if (!workspace.isSettled(neighbor)) {
+                    workspace.improve(neighbor, edge, distance + graph.distance(edge));
+                }
+            }
+        }
+    }
+
+    private static DistanceOracle flatten(RoutingGraph graph, int level, int[][] pivots, int[][] pivotDistances,
+                                          IntArrayList[] bunchMembers, IntArrayList[] bunchDistances) {
+        final int vertexCount = graph.getStationCount();
+        final int[] offsets = new int[vertexCount + 1];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            offsets[vertex + 1] = offsets[vertex] + bunchMembers[vertex].size();
+        }
+        final int[] members = new int[offsets[vertexCount]];
+        final int[] distances = new int[offsets[vertexCount]];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int i = 0; i < bunchMembers[vertex].size(); i++) {
+                members[offsets[vertex] + i] = bunchMembers[vertex].get(i);
+                distances[offsets[vertex] + i] = bunchDistances[vertex].get(i);
+            }
+        }
+        return new DistanceOracle(graph, level, pivots, pivotDistances, offsets, members, distances);
+    }
+
+    public Optional<ApproximateDistance> estimate(Station sourceStation, Station targetStation) {
+        final int source = graph.indexOf(sourceStation);
+        final int target = graph.indexOf(targetStation);
+        if (source == RoutingGraph.NO_VERTEX || target == RoutingGraph.NO_VERTEX) {
+            return Optional.empty();
+        }
+
+        final long upperBound = Math.min(pivotDistance(source, target), commonMemberDistance(source, target));
+        if (upperBound >= NO_DISTANCE) {
+            return Optional.empty();
+        }
+        final int lowerBound = Math.max(commonMemberBound(source, target),
+                (int) ((upperBound + getStretch() - 1) / getStretch()));
+        return Optional.of(new ApproximateDistance(lowerBound, (int) upperBound));
+    }
+
+    private long pivotDistance(int source, int target) {
+        int from = source;
+        int to = target;
+        int center = source;
+        for (int i = 0; i < level; i++) {
+            if (i > 0) {
+                final int swapped = from;
+                from = to;
+                to = swapped;
+                center = pivots[i][from];
+            }
+            if (center == RoutingGraph.NO_VERTEX) {
+                return NO_DISTANCE;
+            }
+            final int distance = bunchDistance(to, center);
+            if (distance != NO_DISTANCE) {
+                return (long) pivotDistances[i][from] + distance;
+            }
+        }
+        return NO_DISTANCE;
+    }
+
+    private int bunchDistance(int vertex, int center) {
+        int low = offsets[vertex];
+        int high = offsets[vertex + 1] - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (members[middle] < center) {
+                low = middle + 1;
+            } else if (members[middle] > center) {
+                high = middle - 1;
+            } else {
+                return distances[middle];
+            }
+        }
+        return NO_DISTANCE;
+    }
+
+    private long commonMemberDistance(int source, int target) {
+        long bestDistance = NO_DISTANCE;
+        int sourceIndex = offsets[source];
+        int targetIndex = offsets[target];
+        while (sourceIndex < offsets[source + 1] && targetIndex < offsets[target + 1]) {
+            if (members[sourceIndex] < members[targetIndex]) {
+                sourceIndex++;
+            } else if (members[sourceIndex] > members[targetIndex]) {
+                targetIndex++;
+            } else {
+                bestDistance = Math.min(bestDistance, (long) distances[sourceIndex++] + distances[targetIndex++]);
+            }
+        }
+        return bestDistance;
+    }
+
+    private int commonMemberBound(int source, int target) {
+        int bound = 0;
+        int sourceIndex = offsets[source];
+        int targetIndex = offsets[target];
+        while (sourceIndex < offsets[source + 1] && targetIndex < offsets[target + 1]) {
+            if (members[sourceIndex] < members[targetIndex]) {
+                sourceIndex++;
+            } else if (members[sourceIndex] > members[targetIndex]) {
+                targetIndex++;
+            } else {
+                bound = Math.max(bound, Math.abs(distances[sourceIndex++] - distances[targetIndex++]));
+            }
+        }
+        return bound;
+    }
+
+    public int getStretch() {
+        return 2 * level - 1;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getBunchEntryCount() {
+        return members.length;
+    }
+}
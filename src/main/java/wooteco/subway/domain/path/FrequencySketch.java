@@ -0,0 +1,82 @@
+package wooteco.subway.domain.path;
+
+class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        final int tableSize = Integer.highestOneBit(Math.max(maximumSize, 16) - 1) << 1;
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = Math.max(maximumSize, 16) * 10;
+    }
+
+    int frequency(long key) {
+        final long hash = spread(key);
+        int frequency = MAX_COUNT;
+        for (int depth = 0; depth < DEPTH; depth++) {
+            frequency = Math.min(frequency, counterAt(hash, depth));
+        }
+        return frequency;
+    }
+
+    void increment(long key) {
+        final long hash = spread(key);
+        boolean added = false;
+        for (int depth = 0; depth < DEPTH; depth++) {
+            added |= incrementAt(hash, depth);
+        }
+        if (added && ++additions == sampleSize) {
+            halve();
+        }
+    }
+
+    private int counterAt(long hash, int depth) {
+        final int index = indexOf(hash, depth);
+        final int offset = counterOffset(hash, depth);
+        return (int) ((table[index] >>> offset) & MAX_COUNT);
+    }
+
+    private boolean incrementAt(long hash, int depth) {
+        final int index = indexOf(hash, depth);
+        final int offset = counterOffset(hash, depth);
+        if (((table[index] >>> offset) & MAX_COUNT) == MAX_COUNT) {
+            return false;
+        }
+        table[index] += 1L << offset;
+        return true;
+    }
+
+    private void halve() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(long hash, int depth) {
+        final long mixed = (hash + SEEDS[depth]) * SEEDS[depth];
+        return (int) (mixed >>> 32) & tableMask;
+    }
+
+    private int counterOffset(long hash, int depth) {
+        final int counter = (int) (hash >>> (depth * 8)) & 15;
+        return counter << 2;
+    }
+
+    private static long spread(long key) {
+        long hash = key * 0x9e3779b97f4a7c15L;
+        hash ^= hash >>> 29;
+        hash *= 0xbf58476d1ce4e5b9L;
+        return hash ^ (hash >>> 32);
+    }
+}
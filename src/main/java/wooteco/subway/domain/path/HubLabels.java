@@ -0,0 +1,220 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class HubLabels {
+
+    private static final long NO_LABELS = -1L;
+    private static final long LABEL_MASK = 0xFFFFFFFFL;
+
+    private final RoutingGraph graph;
+    private final int[] offsets;
+    private final int[] hubs;
+    private final int[] distances;
+    private final int[] maxExtraFares;
+    private final long buildMillis;
+
+    private HubLabels(RoutingGraph graph, int[] offsets, int[] hubs, int[] distances, int[] maxExtraFares,
+                      long buildMillis) {
+        this.graph = graph;
+        this.offsets = offsets;
+        this.hubs = hubs;
+        this.distances = distances;
+        this.maxExtraFares = maxExtraFares;
+        this.buildMillis = buildMillis;
+    }
+
+    public static HubLabels from(RoutingGraph graph) {
+        final long startedAt = System.nanoTime();
+        final LabelBuilder builder = new LabelBuilder(graph);
+        final int[] order = orderByDegree(graph);
+        for (int rank = 0; rank < order.length; rank++) {
+            builder.prunedSearch(order[rank], rank);
+        }
+        final long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return builder.build(buildMillis);
+    }
+
+    private static int[] orderByDegree(RoutingGraph graph) {
+        return IntStream.range(0, graph.getStationCount())
+                .filter(vertex -> degree(graph, vertex) > 0)
+                .boxed()
+                .sorted(Comparator.comparingInt((Integer vertex) -> degree(graph, vertex)).reversed()
+                        .thenComparingInt(vertex -> vertex))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int degree(RoutingGraph graph, int vertex) {
+        return graph.lastEdge(vertex) - graph.firstEdge(vertex);
+    }
+
+    public int distance(Station sourceStation, Station targetStation) {
+        final long labels = findBestLabels(sourceStation, targetStation);
+        return distances[sourceLabel(labels)] + distances[targetLabel(labels)];
+    }
+
+    public int maxExtraFare(Station sourceStation, Station targetStation) {
+        final long labels = findBestLabels(sourceStation, targetStation);
+        return Math.max(maxExtraFares[sourceLabel(labels)], maxExtraFares[targetLabel(labels)]);
+    }
+
+    private long findBestLabels(Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        long bestDistance = Long.MAX_VALUE;
+        int bestExtraFare = Integer.MAX_VALUE;
+        long bestLabels = NO_LABELS;
+        int sourceLabel = offsets[source];
+        int targetLabel = offsets[target];
+        while (sourceLabel < offsets[source + 1] && targetLabel < offsets[target + 1]) {
+            if (hubs[sourceLabel] < hubs[targetLabel]) {
+                sourceLabel++;
+            } else if (hubs[sourceLabel] > hubs[targetLabel]) {
+                targetLabel++;
+            } else {
+                final long distance = (long) distances[sourceLabel] + distances[targetLabel];
+                final int extraFare = Math.max(maxExtraFares[sourceLabel], maxExtraFares[targetLabel]);
+                if (distance < bestDistance || distance == bestDistance && extraFare < bestExtraFare) {
+                    bestDistance = distance;
+                    bestExtraFare = extraFare;
+                    bestLabels = ((long) sourceLabel << Integer.SIZE) | targetLabel;
+                }
+                sourceLabel++;
+                targetLabel++;
+            }
+        }
+        if (bestLabels == NO_LABELS) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+        return bestLabels;
+    }
+
+    private int sourceLabel(long labels) {
+        return (int) (labels >>> Integer.SIZE);
+    }
+
+    private int targetLabel(long labels) {
+        return (int) (labels & LABEL_MASK);
+    }
+
+    public int getStationCount() {
+        return (int) IntStream.range(0, graph.getStationCount())
+                .filter(vertex -> offsets[vertex] < offsets[vertex + 1])
+                .count();
+    }
+
+    public int getLabelCount() {
+        return hubs.length;
+    }
+
+    public int getMaxLabelSize() {
+        int maxLabelSize = 0;
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            maxLabelSize = Math.max(maxLabelSize, offsets[vertex + 1] - offsets[vertex]);
+        }
+        return maxLabelSize;
+    }
+
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+
+    private static class LabelBuilder {
+
+        private static final int NO_DISTANCE = SearchFrontier.UNREACHABLE;
+
+        private final RoutingGraph graph;
+        private final IntArrayList[] labelHubs;
+        private final IntArrayList[] labelDistances;
+        private final IntArrayList[] labelExtraFares;
+        private final SearchFrontier frontier;
+        private final int[] extraFares;
+        private final int[] hubDistances;
+
+        private LabelBuilder(RoutingGraph graph) {
+            final int vertexCount = graph.getStationCount();
+            this.graph = graph;
+            this.labelHubs = new IntArrayList[vertexCount];
+            this.labelDistances = new IntArrayList[vertexCount];
+            this.labelExtraFares = new IntArrayList[vertexCount];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                labelHubs[vertex] = new IntArrayList();
+                labelDistances[vertex] = new IntArrayList();
+                labelExtraFares[vertex] = new IntArrayList();
+            }
+            this.frontier = new SearchFrontier(vertexCount);
+            this.extraFares = new int[vertexCount];
+            this.hubDistances = new int[vertexCount];
+            Arrays.fill(hubDistances, NO_DISTANCE);
+        }
+
+        private void prunedSearch(int hub, int rank) {
+            final IntArrayList hubLabel = labelHubs[hub];
+            for (int i = 0; i < hubLabel.size(); i++) {
+                hubDistances[hubLabel.get(i)] = labelDistances[hub].get(i);
+            }
+
+            frontier.clear();
+            frontier.improve(hub, RoutingGraph.NO_EDGE, 0);
+            while (frontier.hasNext()) {
+                final int vertex = frontier.next();
+                final int distance = frontier.distanceOf(vertex);
+                if (vertex != hub) {
+                    final int edge = frontier.getPreviousEdges()[vertex];
+                    extraFares[vertex] = Math.max(extraFares[graph.origin(edge)], graph.extraFare(edge));
+                } else {
+                    extraFares[vertex] = 0;
+                }
+                if (isCovered(vertex, distance)) {
+                    continue;
+                }
+                labelHubs[vertex].add(rank);
+                labelDistances[vertex].add(distance);
+                labelExtraFares[vertex].add(extraFares[vertex]);
+                for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                    frontier.improve(graph.neighbor(edge), edge, distance + graph.distance(edge));
+                }
+            }
+
+            for (int i = 0; i < hubLabel.size(); i++) {
+                hubDistances[hubLabel.get(i)] = NO_DISTANCE;
+            }
+        }
+
+        private boolean isCovered(int vertex, int distance) {
+            final IntArrayList vertexHubs = labelHubs[vertex];
+            for (int i = 0; i < vertexHubs.size(); i++) {
+                final int hubDistance = hubDistances[vertexHubs.get(i)];
+                if (hubDistance != NO_DISTANCE && hubDistance + labelDistances[vertex].get(i) <= distance) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private HubLabels build(long buildMillis) {
+            final int vertexCount = graph.getStationCount();
+            final int[] offsets = new int[vertexCount + 1];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                offsets[vertex + 1] = offsets[vertex] + labelHubs[vertex].size();
+            }
+            final int[] hubs = new int[offsets[vertexCount]];
+            final int[] distances = new int[offsets[vertexCount]];
+            final int[] maxExtraFares = new int[offsets[vertexCount]];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                for (int i = 0; i < labelHubs[vertex].size(); i++) {
+                    hubs[offsets[vertex] + i] = labelHubs[vertex].get(i);
+                    distances[offsets[vertex] + i] = labelDistances[vertex].get(i);
+                    maxExtraFares[offsets[vertex] + i] = labelExtraFares[vertex].get(i);
+                }
+            }
+            return new HubLabels(graph, offsets, hubs, distances, maxExtraFares, buildMillis);
+        }
+    }
+}
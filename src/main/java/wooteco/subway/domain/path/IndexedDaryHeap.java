@@ -0,0 +1,114 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class IndexedDaryHeap {
+
+    private static final int ARITY = 4;
+    private static final int ABSENT = -1;
+
+    private final int[] vertices;
+    private final int[] keys;
+    private final int[] positions;
+    private int size;
+
+    IndexedDaryHeap(int capacity) {
+        this.vertices = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    int capacity() {
+        return positions.length;
+    }
+
+    void insertOrDecrease(int vertex, int key) {
+        int index = positions[vertex];
+        if (index == ABSENT) {
+            index = size++;
+            vertices[index] = vertex;
+        } else if (key >= keys[index]) {
+            return;
+        }
+        keys[index] = key;
+        siftUp(index);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peekKey() {
+        return keys[0];
+    }
+
+    int poll() {
+        final int top = vertices[0];
+        positions[top] = ABSENT;
+        size--;
+        if (size > 0) {
+            vertices[0] = vertices[size];
+            keys[0] = keys[size];
+            siftDown(0);
+        }
+        return top;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[vertices[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        final int vertex = vertices[index];
+        final int key = keys[index];
+        while (index > 0) {
+            final int parent = (index - 1) / ARITY;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        place(vertex, key, index);
+    }
+
+    private void siftDown(int index) {
+        final int vertex = vertices[index];
+        final int key = keys[index];
+        while (true) {
+            final int firstChild = index * ARITY + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int child = firstChild;
+            final int lastChild = Math.min(firstChild + ARITY, size);
+            for (int candidate = firstChild + 1; candidate < lastChild; candidate++) {
+                if (keys[candidate] < keys[child]) {
+                    child = candidate;
+                }
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            move(child, index);
+            index = child;
+        }
+        place(vertex, key, index);
+    }
+
+    private void move(int from, int to) {
+        vertices[to] = vertices[from];
+        keys[to] = keys[from];
+        positions[vertices[to]] = to;
+    }
+
+    private void place(int vertex, int key, int index) {
+        vertices[index] = vertex;
+        keys[index] = key;
+        positions[vertex] = index;
+    }
+}
@@ -0,0 +1,50 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class IntArrayList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] elements;
+    private int size;
+
+    IntArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    IntArrayList(int capacity) {
+        this.elements = new int[Math.max(capacity, 1)];
+    }
+
+    void add(int element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    int get(int index) {
+        return elements[index];
+    }
+
+    void set(int index, int element) {
+        elements[index] = element;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
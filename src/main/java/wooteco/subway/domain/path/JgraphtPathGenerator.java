@@ -9,26 +9,35 @@ import java.util.Set;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.jgrapht.graph.WeightedMultigraph;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import wooteco.subway.domain.Section;
 import wooteco.subway.domain.SectionEdge;
 import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
 
 @Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "jgrapht", matchIfMissing = true)
 public class JgraphtPathGenerator implements PathGenerator {
 
     public JgraphtPathGenerator() {
     }
 
     @Override
-    public Path generatePath(List<Section> sections, Station sourceStation, Station targetStation) {
+    public PathFinder prepare(RoutingGraph routingGraph) {
+        final List<Section> sections = routingGraph.getSections();
         final WeightedMultigraph<Station, SectionEdge> graph = new WeightedMultigraph<>(SectionEdge.class);
         addVertexes(graph, getStationIds(sections));
         addEdges(graph, sections);
 
         final DijkstraShortestPath<Station, SectionEdge> dijkstraShortestPath = new DijkstraShortestPath<>(graph);
-        final GraphPath<Station, SectionEdge> path = dijkstraShortestPath.getPath(sourceStation, targetStation);
+        return (sourceStation, targetStation) -> toPath(dijkstraShortestPath.getPath(sourceStation, targetStation));
+    }
 
+    private Path toPath(GraphPath<Station, SectionEdge> path) {
+        if (path == null) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
         return new Path(getShortestPath(path), getShortestPathWeight(path), getShortestEdge(path));
     }
 
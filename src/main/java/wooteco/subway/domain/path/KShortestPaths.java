@@ -0,0 +1,187 @@
+package wooteco.subway.domain.path;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class KShortestPaths {
+
+    private static final Comparator<Route> SHORTER_FIRST = Comparator.comparingInt((Route route) -> route.distance)
+            .thenComparingInt(route -> route.edges.length);
+
+    private final RoutingGraph graph;
+    private final SearchFrontier frontier;
+    private final boolean[] blockedVertices;
+    private final boolean[] blockedEdges;
+    private final IntArrayList blockedVertexList = new IntArrayList();
+    private final IntArrayList blockedEdgeList = new IntArrayList();
+
+    public KShortestPaths(RoutingGraph graph) {
+        this.graph = graph;
+        this.frontier = new SearchFrontier(graph);
+        this.blockedVertices = new boolean[graph.getStationCount()];
+        this.blockedEdges = new boolean[graph.getEdgeCount()];
+    }
+
+    public List<Path> findPaths(Station sourceStation, Station targetStation, int k) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        final Route shortest = searchSpur(new Route(new int[]{source}, new int[0], 0, 0), 0, target);
+        if (shortest == null) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+
+        final List<Route> routes = new ArrayList<>();
+        final Queue<Route> candidates = new PriorityQueue<>(SHORTER_FIRST);
+        final Set<Route> foundRoutes = new HashSet<>();
+        routes.add(shortest);
+        foundRoutes.add(shortest);
+        while (routes.size() < k) {
+            addCandidates(routes, target, candidates, foundRoutes);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            routes.add(candidates.poll());
+        }
+
+        return routes.stream()
+                .map(route -> graph.toPath(source, route.edges, route.distance))
+                .collect(toList());
+    }
+
+    private void addCandidates(List<Route> routes, int target, Queue<Route> candidates, Set<Route> foundRoutes) {
+        final Route previous = routes.get(routes.size() - 1);
+        for (int spurIndex = previous.deviation; spurIndex < previous.edges.length; spurIndex++) {
+            for (Route route : routes) {
+                if (route.sharesRoot(previous, spurIndex)) {
+                    blockEdge(route.edges[spurIndex]);
+                }
+            }
+            for (int i = 0; i < spurIndex; i++) {
+                blockVertex(previous.vertices[i]);
+            }
+
+            final Route candidate = searchSpur(previous, spurIndex, target);
+            unblockAll();
+            if (candidate != null && foundRoutes.add(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+    }
+
+    private Route searchSpur(Route root, int spurIndex, int target) {
+        final int spur = root.vertices[spurIndex];
+        frontier.clear();
+        frontier.improve(spur, RoutingGraph.NO_EDGE, 0);
+
+        while (frontier.hasNext()) {
+            final int vertex = frontier.next();
+            if (vertex == target) {
+                return joinRoute(root, spurIndex, target);
+            }
+            final int distance = frontier.distanceOf(vertex);
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                final int neighbor = graph.neighbor(edge);
+                if (!blockedEdges[edge] && !blockedVertices[neighbor]) {
+                    frontier.improve(neighbor, edge, distance + graph.distance(edge));
+                }
+            }
+        }
+        return null;
+    }
+
+    private Route joinRoute(Route root, int spurIndex, int target) {
+        final int[] previousEdges = frontier.getPreviousEdges();
+        final int spur = root.vertices[spurIndex];
+        int spurLength = 0;
+        for (int vertex = target; vertex != spur; vertex = graph.origin(previousEdges[vertex])) {
+            spurLength++;
+        }
+
+        final int[] vertices = Arrays.copyOf(root.vertices, spurIndex + spurLength + 1);
+        final int[] edges = Arrays.copyOf(root.edges, spurIndex + spurLength);
+        int rootDistance = 0;
+        for (int i = 0; i < spurIndex; i++) {
+            rootDistance += graph.distance(edges[i]);
+        }
+
+        int vertex = target;
+        for (int i = edges.length - 1; i >= spurIndex; i--) {
+            vertices[i + 1] = vertex;
+            edges[i] = previousEdges[vertex];
+            vertex = graph.origin(edges[i]);
+        }
+        return new Route(vertices, edges, rootDistance + frontier.distanceOf(target), spurIndex);
+    }
+
+    private void blockEdge(int edge) {
+        if (!blockedEdges[edge]) {
+            blockedEdges[edge] = true;
+            blockedEdgeList.add(edge);
+        }
+    }
+
+    private void blockVertex(int vertex) {
+        if (!blockedVertices[vertex]) {
+            blockedVertices[vertex] = true;
+            blockedVertexList.add(vertex);
+        }
+    }
+
+    private void unblockAll() {
+        for (int i = 0; i < blockedEdgeList.size(); i++) {
+            blockedEdges[blockedEdgeList.get(i)] = false;
+        }
+        for (int i = 0; i < blockedVertexList.size(); i++) {
+            blockedVertices[blockedVertexList.get(i)] = false;
+        }
+        blockedEdgeList.clear();
+        blockedVertexList.clear();
+    }
+
+    private static class Route {
+
+        private final int[] vertices;
+        private final int[] edges;
+        private final int distance;
+        private final int deviation;
+
+        private Route(int[] vertices, int[] edges, int distance, int deviation) {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.distance = distance;
+            this.deviation = deviation;
+        }
+
+        private boolean sharesRoot(Route other, int length) {
+            return edges.length > length && Arrays.equals(edges, 0, length, other.edges, 0, length);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Route route = (Route) o;
+            return Arrays.equals(edges, route.edges);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(edges);
+        }
+    }
+}
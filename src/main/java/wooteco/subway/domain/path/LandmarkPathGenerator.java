@@ -0,0 +1,33 @@
+package wooteco.subway.domain.path;
+
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "alt")
+public class LandmarkPathGenerator implements PathGenerator {
+
+    private final BackgroundPreparer preparer = new BackgroundPreparer("landmarks");
+    private final WorkspacePathGenerator fallbackGenerator = new WorkspacePathGenerator();
+    private final int landmarkCount;
+
+    public LandmarkPathGenerator(@Value("${subway.path.alt.landmark-count:8}") int landmarkCount) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("랜드마크 역 수는 1 이상이어야 합니다.");
+        }
+        this.landmarkCount = landmarkCount;
+    }
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        return preparer.prepare(graph, fallbackGenerator.prepare(graph),
+                preparedGraph -> LandmarkTable.from(preparedGraph, landmarkCount));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        preparer.shutdown();
+    }
+}
@@ -0,0 +1,120 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class LandmarkTable implements PathFinder {
+
+    private final RoutingGraph graph;
+    private final int[] landmarks;
+    private final int[][] landmarkDistances;
+
+    private LandmarkTable(RoutingGraph graph, int[] landmarks, int[][] landmarkDistances) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.landmarkDistances = landmarkDistances;
+    }
+
+    public static LandmarkTable from(RoutingGraph graph, int landmarkCount) {
+        final IntArrayList landmarks = new IntArrayList();
+        final int maxLandmarkCount = Math.max(0, Math.min(landmarkCount, graph.getStationCount()));
+        final int[][] landmarkDistances = new int[maxLandmarkCount][];
+        final int[] nearestLandmarkDistances = new int[graph.getStationCount()];
+        Arrays.fill(nearestLandmarkDistances, SearchFrontier.UNREACHABLE);
+
+        int next = findFirstVertex(graph);
+        while (next != RoutingGraph.NO_VERTEX && landmarks.size() < maxLandmarkCount) {
+            final int[] distances = distancesFrom(graph, next);
+            landmarkDistances[landmarks.size()] = distances;
+            landmarks.add(next);
+            for (int vertex = 0; vertex < distances.length; vertex++) {
+                nearestLandmarkDistances[vertex] = Math.min(nearestLandmarkDistances[vertex], distances[vertex]);
+            }
+            next = findFarthestVertex(graph, nearestLandmarkDistances);
+        }
+        return new LandmarkTable(graph, landmarks.toArray(),
+                Arrays.copyOf(landmarkDistances, landmarks.size()));
+    }
+
+    private static int findFirstVertex(RoutingGraph graph) {
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            if (hasEdges(graph, vertex)) {
+                return vertex;
+            }
+        }
+        return RoutingGraph.NO_VERTEX;
+    }
+
+    private static int findFarthestVertex(RoutingGraph graph, int[] nearestLandmarkDistances) {
+        int farthest = RoutingGraph.NO_VERTEX;
+        for (int vertex = 0; vertex < graph.getStationCount(); vertex++) {
+            if (!hasEdges(graph, vertex) || nearestLandmarkDistances[vertex] == 0) {
+                continue;
+            }
+            if (farthest == RoutingGraph.NO_VERTEX
+                    || nearestLandmarkDistances[vertex] > nearestLandmarkDistances[farthest]) {
+                farthest = vertex;
+            }
+        }
+        return farthest;
+    }
+
+    private static boolean hasEdges(RoutingGraph graph, int vertex) {
+        return graph.firstEdge(vertex) < graph.lastEdge(vertex);
+    }
+
+    private static int[] distancesFrom(RoutingGraph graph, int source) {
+        final SearchFrontier frontier = new SearchFrontier(graph);
+        frontier.improve(source, RoutingGraph.NO_EDGE, 0);
+        while (frontier.hasNext()) {
+            final int vertex = frontier.next();
+            final int distance = frontier.distanceOf(vertex);
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                frontier.improve(graph.neighbor(edge), edge, distance + graph.distance(edge));
+            }
+        }
+        return frontier.getDistances();
+    }
+
+    @Override
+    public Path findPath(Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        final SearchWorkspace workspace = SearchWorkspace.acquire(graph);
+        workspace.improve(source, RoutingGraph.NO_EDGE, 0);
+
+        while (workspace.hasNext()) {
+            final int vertex = workspace.next();
+            final int distance = workspace.distanceOf(vertex);
+            if (vertex == target) {
+                return graph.toPath(source, target, workspace.getPreviousEdges(), distance);
+            }
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                final int neighbor = graph.neighbor(edge);
+                if (!workspace.isSettled(neighbor)) {
+                    final int nextDistance = distance + graph.distance(edge);
+                    workspace.improve(neighbor, edge, nextDistance, nextDistance + lowerBound(neighbor, target));
+                }
+            }
+        }
+        throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+    }
+
+    private int lowerBound(int vertex, int target) {
+        int bound = 0;
+        for (int[] distances : landmarkDistances) {
+            final int toVertex = distances[vertex];
+            final int toTarget = distances[target];
+            if (toVertex != SearchFrontier.UNREACHABLE && toTarget != SearchFrontier.UNREACHABLE) {
+                bound = Math.max(bound, Math.abs(toTarget - toVertex));
+            }
+        }
+        return bound;
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+}
@@ -0,0 +1,56 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.Collection;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class MultiSourcePathFinder {
+
+    private final RoutingGraph graph;
+
+    public MultiSourcePathFinder(RoutingGraph graph) {
+        this.graph = graph;
+    }
+
+    public Path findPath(Collection<Station> sourceStations, Collection<Station> targetStations) {
+        final int[] targets = toSortedVertices(targetStations);
+        final SearchWorkspace workspace = SearchWorkspace.acquire(graph);
+        for (int source : toSortedVertices(sourceStations)) {
+            workspace.improve(source, RoutingGraph.NO_EDGE, 0);
+        }
+
+        while (workspace.hasNext()) {
+            final int vertex = workspace.next();
+            final int distance = workspace.distanceOf(vertex);
+            if (Arrays.binarySearch(targets, vertex) >= 0) {
+                final int[] previousEdges = workspace.getPreviousEdges();
+                return graph.toPath(findRoot(vertex, previousEdges), vertex, previousEdges, distance);
+            }
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                final int neighbor = graph.neighbor(edge);
+                if (!workspace.isSettled(neighbor)) {
+                    workspace.improve(neighbor, edge, distance + graph.distance(edge));
+                }
+            }
+        }
+        throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+    }
+
+    private int[] toSortedVertices(Collection<Station> stations) {
+        return stations.stream()
+                .mapToInt(graph::indexOf)
+                .filter(vertex -> vertex != RoutingGraph.NO_VERTEX)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    private int findRoot(int vertex, int[] previousEdges) {
+        int root = vertex;
+        while (previousEdges[root] != RoutingGraph.NO_EDGE) {
+            root = graph.origin(previousEdges[root]);
+        }
+        return root;
+    }
+}
@@ -0,0 +1,53 @@
+package wooteco.subway.domain.path;
+
+import java.util.List;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+public class NetworkPatch {
+
+    private final List<Section> removedSections;
+    private final List<Section> addedSections;
+    private final List<Long> removedStationIds;
+    private final List<Station> addedStations;
+
+    private NetworkPatch(List<Section> removedSections, List<Section> addedSections, List<Long> removedStationIds,
+                         List<Station> addedStations) {
+        this.removedSections = List.copyOf(removedSections);
+        this.addedSections = List.copyOf(addedSections);
+        this.removedStationIds = List.copyOf(removedStationIds);
+        this.addedStations = List.copyOf(addedStations);
+    }
+
+    public static NetworkPatch ofSections(List<Section> removedSections, List<Section> addedSections) {
+        return new NetworkPatch(removedSections, addedSections, List.of(), List.of());
+    }
+
+    public static NetworkPatch ofRemovedStation(Long stationId) {
+        return new NetworkPatch(List.of(), List.of(), List.of(stationId), List.of());
+    }
+
+    public static NetworkPatch ofAddedStation(Station station) {
+        return new NetworkPatch(List.of(), List.of(), List.of(), List.of(station));
+    }
+
+    public boolean changesSections() {
+        return !removedSections.isEmpty() || !addedSections.isEmpty();
+    }
+
+    public List<Section> getRemovedSections() {
+        return removedSections;
+    }
+
+    public List<Section> getAddedSections() {
+        return addedSections;
+    }
+
+    public List<Long> getRemovedStationIds() {
+        return removedStationIds;
+    }
+
+    public List<Station> getAddedStations() {
+        return addedStations;
+    }
+}
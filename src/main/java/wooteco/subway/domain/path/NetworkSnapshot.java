@@ -0,0 +1,153 @@
+package wooteco.subway.domain.path;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+public class NetworkSnapshot {
+
+    private final long version;
+    private final Map<Long, Station> stations;
+    private final RoutingGraph routingGraph;
+    private final PathGenerator pathGenerator;
+    private final PathFinder pathFinder;
+    private volatile TransferGraph transferGraph;
+    private volatile HubLabels hubLabels;
+    private volatile DistanceOracle distanceOracle;
+
+    public NetworkSnapshot(long version, List<Station> stations, List<Section> sections, PathGenerator pathGenerator) {
+        this(version, toStationMap(stations), RoutingGraph.from(sections), pathGenerator);
+    }
+
+    private NetworkSnapshot(long version, Map<Long, Station> stations, RoutingGraph routingGraph,
+                            PathGenerator pathGenerator) {
+        this(version, stations, routingGraph, pathGenerator, pathGenerator.prepare(routingGraph));
+    }
+
+    private NetworkSnapshot(long version, Map<Long, Station> stations, RoutingGraph routingGraph,
+                            PathGenerator pathGenerator, PathFinder pathFinder) {
+        this.version = version;
+        this.stations = stations;
+        this.routingGraph = routingGraph;
+        this.pathGenerator = pathGenerator;
+        this.pathFinder = pathFinder;
+    }
+
+    private static Map<Long, Station> toStationMap(List<Station> stations) {
+        return stations.stream()
+                .collect(toUnmodifiableMap(Station::getId, Function.identity()));
+    }
+
+    public Optional<NetworkSnapshot> apply(NetworkPatch patch, long nextVersion) {
+        final Map<Long, Station> nextStations = updateStations(patch);
+        if (!patch.changesSections()) {
+            return Optional.of(withStations(nextVersion, nextStations));
+        }
+        if (!pathGenerator.readsGraphDirectly()) {
+            return Optional.empty();
+        }
+        return routingGraph.patch(patch.getRemovedSections(), patch.getAddedSections())
+                .map(graph -> new NetworkSnapshot(nextVersion, nextStations, graph, pathGenerator));
+    }
+
+    private Map<Long, Station> updateStations(NetworkPatch patch) {
+        if (patch.getRemovedStationIds().isEmpty() && patch.getAddedStations().isEmpty()) {
+            return stations;
+        }
+        final Map<Long, Station> nextStations = new HashMap<>(stations);
+        patch.getRemovedStationIds().forEach(nextStations::remove);
+        patch.getAddedStations().forEach(station -> nextStations.put(station.getId(), station));
+        return Map.copyOf(nextStations);
+    }
+
+    private NetworkSnapshot withStations(long nextVersion, Map<Long, Station> nextStations) {
+        final NetworkSnapshot next = new NetworkSnapshot(nextVersion, nextStations, routingGraph, pathGenerator,
+                pathFinder);
+        next.transferGraph = transferGraph;
+        next.hubLabels = hubLabels;
+        next.distanceOracle = distanceOracle;
+        return next;
+    }
+
+    public Optional<Station> findStation(Long id) {
+        return Optional.ofNullable(stations.get(id));
+    }
+
+    public Path findPath(Station sourceStation, Station targetStation) {
+        return pathFinder.findPath(sourceStation, targetStation);
+    }
+
+    public Path findPath(List<Station> sourceStations, List<Station> targetStations) {
+        return new MultiSourcePathFinder(routingGraph).findPath(sourceStations, targetStations);
+    }
+
+    public ShortestPathTree createShortestPathTree(Station sourceStation) {
+        return pathGenerator.createShortestPathTree(routingGraph, sourceStation);
+    }
+
+    public List<Path> findPaths(Station sourceStation, Station targetStation, int k) {
+        return new KShortestPaths(routingGraph).findPaths(sourceStation, targetStation, k);
+    }
+
+    public Path findFewestTransfersPath(Station sourceStation, Station targetStation) {
+        return getTransferGraph().findFewestTransfersPath(sourceStation, targetStation);
+    }
+
+    public Path findFewestTransfersPath(Station sourceStation, Station targetStation, int transferPenalty) {
+        return getTransferGraph().findPath(sourceStation, targetStation, transferPenalty);
+    }
+
+    private TransferGraph getTransferGraph() {
+        TransferGraph current = transferGraph;
+        if (current == null) {
+            current = TransferGraph.from(routingGraph);
+            transferGraph = current;
+        }
+        return current;
+    }
+
+    public HubLabels getHubLabels() {
+        HubLabels current = hubLabels;
+        if (current == null) {
+            current = HubLabels.from(routingGraph);
+            hubLabels = current;
+        }
+        return current;
+    }
+
+    public DistanceOracle getDistanceOracle(int level) {
+        DistanceOracle current = distanceOracle;
+        if (current == null || current.getLevel() != level) {
+            current = DistanceOracle.from(routingGraph, level);
+            distanceOracle = current;
+        }
+        return current;
+    }
+
+    public Path findCheapestPath(Station sourceStation, Station targetStation, IntBinaryOperator fareCalculator) {
+        return new CheapestPathFinder(routingGraph).findPath(sourceStation, targetStation, fareCalculator);
+    }
+
+    public PreparationState getPreparationState() {
+        return pathFinder.getPreparationState();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Section> getSections() {
+        return routingGraph.getSections();
+    }
+
+    public RoutingGraph getRoutingGraph() {
+        return routingGraph;
+    }
+}
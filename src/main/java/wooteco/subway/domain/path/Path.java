@@ -1,5 +1,6 @@
 package wooteco.subway.domain.path;
 
+import java.util.ArrayList;
 import java.util.List;
 import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Station;
@@ -16,6 +17,14 @@ public class Path {
         this.shortestEdge = pathEdge;
     }
 
+    public Path append(Path next) {
+        final List<Station> stations = new ArrayList<>(shortestPath);
+        stations.addAll(next.shortestPath.subList(1, next.shortestPath.size()));
+        final List<Section> sections = new ArrayList<>(shortestEdge);
+        sections.addAll(next.shortestEdge);
+        return new Path(stations, shortestPathWeight + next.shortestPathWeight, sections);
+    }
+
     public List<Station> getShortestPath() {
         return shortestPath;
     }
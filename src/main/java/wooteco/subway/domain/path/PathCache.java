@@ -0,0 +1,537 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+
+@Component
+public class PathCache {
+
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+    private static final long NO_VERSION = -1L;
+
+    private final Map<Key, Node> nodes = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Node>> dependentsBySection = new HashMap<>();
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final Queue<Write> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final Lock evictionLock = new ReentrantLock();
+    private final AccessQueue window = new AccessQueue();
+    private final AccessQueue probation = new AccessQueue();
+    private final AccessQueue protectedQueue = new AccessQueue();
+    private final FrequencySketch sketch;
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final int protectedCapacity;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder invalidatedCount = new LongAdder();
+    private volatile long validVersion = NO_VERSION;
+
+    public PathCache(@Value("${subway.path.cache.maximum-size:10000}") int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("경로 캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.sketch = new FrequencySketch(maximumSize);
+        this.windowCapacity = Math.max(1, maximumSize * WINDOW_PERCENT / 100);
+        this.mainCapacity = maximumSize - windowCapacity;
+        this.protectedCapacity = mainCapacity * PROTECTED_PERCENT / 100;
+    }
+
+    public Optional<CachedPath> get(long version, Station sourceStation, Station targetStation) {
+        final Key key = Key.of(sourceStation, targetStation);
+        final Node node = nodes.get(key);
+        if (readBuffer.offer(key)) {
+            tryDrain();
+        }
+
+        if (node == null || node.version != version || version != validVersion) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        hitCount.increment();
+        return Optional.of(orient(node.value, sourceStation, targetStation));
+    }
+
+    public void put(long version, Station sourceStation, Station targetStation, CachedPath path) {
+        if (version < validVersion) {
+            return;
+        }
+        if (version > validVersion) {
+            invalidateBefore(version);
+        }
+        final Key key = Key.of(sourceStation, targetStation);
+        final Node node = new Node(key, orient(path, sourceStation, targetStation), version);
+        writeBuffer.add(new Write(node, nodes.put(key, node)));
+        drainWrites();
+    }
+
+    public void invalidateAll(long version) {
+        evictionLock.lock();
+        try {
+            clear(version);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void invalidateBefore(long version) {
+        evictionLock.lock();
+        try {
+            if (version > validVersion) {
+                clear(version);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void clear(long version) {
+        invalidatedCount.add(nodes.size());
+        nodes.clear();
+        writeBuffer.clear();
+        dependentsBySection.clear();
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+        validVersion = version;
+    }
+
+    public void migrate(long fromVersion, NetworkSnapshot next, NetworkPatch patch) {
+        final int maxDistance = nodes.values().stream()
+                .mapToInt(node -> node.value.getDistance())
+                .max()
+                .orElse(0);
+        final List<Shortcut> shortcuts = findShortcuts(next.getRoutingGraph(), patch.getAddedSections(), maxDistance);
+
+        evictionLock.lock();
+        try {
+            drainBuffers();
+            if (fromVersion != validVersion) {
+                clear(next.getVersion());
+                return;
+            }
+            for (Section section : patch.getRemovedSections()) {
+                evictAll(new ArrayList<>(dependentsBySection.getOrDefault(section.getId(), Set.of())));
+            }
+            evictAll(findImprovable(shortcuts, patch.getAddedSections(), maxDistance));
+            for (Node node : nodes.values()) {
+                if (node.queue != null) {
+                    node.version = next.getVersion();
+                }
+            }
+            validVersion = next.getVersion();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private List<Shortcut> findShortcuts(RoutingGraph graph, List<Section> addedSections, int maxDistance) {
+        final List<Shortcut> shortcuts = new ArrayList<>();
+        for (Section section : addedSections) {
+            if (section.getDistance() >= maxDistance) {
+                continue;
+            }
+            final int radius = maxDistance - section.getDistance();
+            shortcuts.add(new Shortcut(section.getDistance(),
+                    ShortestPathTree.within(graph, section.getUpStation(), radius),
+                    ShortestPathTree.within(graph, section.getDownStation(), radius)));
+        }
+        return shortcuts;
+    }
+
+    private List<Node> findImprovable(List<Shortcut> shortcuts, List<Section> addedSections, int maxDistance) {
+        final int minAddedDistance = addedSections.stream()
+                .mapToInt(Section::getDistance)
+                .min()
+                .orElse(Integer.MAX_VALUE);
+        final List<Node> improvable = new ArrayList<>();
+        for (Node node : nodes.values()) {
+            if (node.queue == null) {
+                continue;
+            }
+            if (node.value.getDistance() > maxDistance && minAddedDistance < node.value.getDistance()) {
+                improvable.add(node);
+                continue;
+            }
+            if (shortcuts.stream().anyMatch(shortcut -> canImprove(node, shortcut))) {
+                improvable.add(node);
+            }
+        }
+        return improvable;
+    }
+
+    private boolean canImprove(Node node, Shortcut shortcut) {
+        final List<Station> stations = node.value.getPath().getShortestPath();
+        final Station first = stations.get(0);
+        final Station last = stations.get(stations.size() - 1);
+        return shortcut.lowerBound(first, last) < node.value.getDistance()
+                || shortcut.lowerBound(last, first) < node.value.getDistance();
+    }
+
+    private void evictAll(List<Node> evicted) {
+        for (Node node : evicted) {
+            if (nodes.remove(node.key, node)) {
+                unlink(node);
+                invalidatedCount.increment();
+            }
+        }
+    }
+
+    private void tryDrain() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainWrites() {
+        do {
+            if (!evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                drainBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        } while (!writeBuffer.isEmpty());
+    }
+
+    private void drainBuffers() {
+        readBuffer.drain(this::onRead);
+        Write write;
+        while ((write = writeBuffer.poll()) != null) {
+            onWrite(write.node, write.replaced);
+        }
+    }
+
+    private void onRead(Key key) {
+        sketch.increment(key.pairHash());
+        final Node node = nodes.get(key);
+        if (node != null && node.queue != null) {
+            onAccess(node);
+        }
+    }
+
+    private void onWrite(Node node, Node replaced) {
+        final AccessQueue replacedQueue = replaced == null ? null : replaced.queue;
+        if (replacedQueue != null) {
+            unlink(replaced);
+        }
+        if (node.version != validVersion) {
+            nodes.remove(node.key, node);
+            return;
+        }
+        if (nodes.get(node.key) != node) {
+            return;
+        }
+        register(node);
+        if (replacedQueue != null) {
+            node.queue = replacedQueue;
+            replacedQueue.addFirst(node);
+            return;
+        }
+
+        node.queue = window;
+        window.addFirst(node);
+        if (window.size > windowCapacity) {
+            admitToMain(window.removeLast());
+        }
+    }
+
+    private void unlink(Node node) {
+        node.queue.remove(node);
+        node.queue = null;
+        unregister(node);
+    }
+
+    private void register(Node node) {
+        for (Section section : node.value.getPath().getShortestEdge()) {
+            dependentsBySection.computeIfAbsent(section.getId(), id -> new HashSet<>()).add(node);
+        }
+    }
+
+    private void unregister(Node node) {
+        for (Section section : node.value.getPath().getShortestEdge()) {
+            final Set<Node> dependents = dependentsBySection.get(section.getId());
+            if (dependents != null) {
+                dependents.remove(node);
+                if (dependents.isEmpty()) {
+                    dependentsBySection.remove(section.getId());
+                }
+            }
+        }
+    }
+
+    private CachedPath orient(CachedPath path, Station sourceStation, Station targetStation) {
+        if (sourceStation.getId() > targetStation.getId()) {
+            return path.reverse();
+        }
+        return path;
+    }
+
+    private void onAccess(Node node) {
+        if (node.queue == probation) {
+            probation.remove(node);
+            node.queue = protectedQueue;
+            protectedQueue.addFirst(node);
+            if (protectedQueue.size > protectedCapacity) {
+                final Node demoted = protectedQueue.removeLast();
+                demoted.queue = probation;
+                probation.addFirst(demoted);
+            }
+            return;
+        }
+        node.queue.remove(node);
+        node.queue.addFirst(node);
+    }
+
+    private void admitToMain(Node candidate) {
+        if (probation.size + protectedQueue.size < mainCapacity) {
+            candidate.queue = probation;
+            probation.addFirst(candidate);
+            return;
+        }
+
+        final Node victim = findVictim();
+        if (victim != null && sketch.frequency(candidate.key.pairHash()) > sketch.frequency(victim.key.pairHash())) {
+            nodes.remove(victim.key, victim);
+            unlink(victim);
+            candidate.queue = probation;
+            probation.addFirst(candidate);
+            return;
+        }
+        nodes.remove(candidate.key, candidate);
+        candidate.queue = null;
+        unregister(candidate);
+    }
+
+    private Node findVictim() {
+        if (probation.size > 0) {
+            return probation.peekLast();
+        }
+        return protectedQueue.peekLast();
+    }
+
+    public int size() {
+        evictionLock.lock();
+        try {
+            drainBuffers();
+            return nodes.size();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getInvalidatedCount() {
+        return invalidatedCount.sum();
+    }
+
+    private static class Key {
+
+        private final long lowerStationId;
+        private final long upperStationId;
+
+        private Key(long lowerStationId, long upperStationId) {
+            this.lowerStationId = lowerStationId;
+            this.upperStationId = upperStationId;
+        }
+
+        private static Key of(Station sourceStation, Station targetStation) {
+            final long sourceId = sourceStation.getId();
+            final long targetId = targetStation.getId();
+            return new Key(Math.min(sourceId, targetId), Math.max(sourceId, targetId));
+        }
+
+        private long pairHash() {
+            return lowerStationId * 0x9e3779b97f4a7c15L + upperStationId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return lowerStationId == key.lowerStationId && upperStationId == key.upperStationId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lowerStationId, upperStationId);
+        }
+    }
+
+    private static class Node {
+
+        private final Key key;
+        private final CachedPath value;
+        private volatile long version;
+        private AccessQueue queue;
+        private Node previous;
+        private Node next;
+
+        private Node(Key key, CachedPath value, long version) {
+            this.key = key;
+            this.value = value;
+            this.version = version;
+        }
+    }
+
+    private static class Write {
+
+        private final Node node;
+        private final Node replaced;
+
+        private Write(Node node, Node replaced) {
+            this.node = node;
+            this.replaced = replaced;
+        }
+    }
+
+    private static class Shortcut {
+
+        private final int distance;
+        private final ShortestPathTree upTree;
+        private final ShortestPathTree downTree;
+
+        private Shortcut(int distance, ShortestPathTree upTree, ShortestPathTree downTree) {
+            this.distance = distance;
+            this.upTree = upTree;
+            this.downTree = downTree;
+        }
+
+        private long lowerBound(Station toUp, Station toDown) {
+            if (!upTree.isReachable(toUp) || !downTree.isReachable(toDown)) {
+                return Long.MAX_VALUE;
+            }
+            return (long) upTree.distanceTo(toUp) + distance + downTree.distanceTo(toDown);
+        }
+    }
+
+    private static class ReadBuffer {
+
+        private static final int CAPACITY = 64;
+        private static final int MASK = CAPACITY - 1;
+        private static final int DRAIN_THRESHOLD = CAPACITY / 2;
+
+        private final AtomicReferenceArray<Key> keys = new AtomicReferenceArray<>(CAPACITY);
+        private final AtomicLong writeCount = new AtomicLong();
+        private volatile long readCount;
+
+        private boolean offer(Key key) {
+            final long tail = writeCount.get();
+            final long size = tail - readCount;
+            if (size >= CAPACITY) {
+                return true;
+            }
+            if (!writeCount.compareAndSet(tail, tail + 1)) {
+                return false;
+            }
+            keys.lazySet((int) (tail & MASK), key);
+            return size + 1 >= DRAIN_THRESHOLD;
+        }
+
+        private void drain(Consumer<Key> consumer) {
+            final long tail = writeCount.get();
+            long head = readCount;
+            for (; head < tail; head++) {
+                final int index = (int) (head & MASK);
+                final Key key = keys.get(index);
+                if (key == null) {
+                    break;
+                }
+                keys.lazySet(index, null);
+                consumer.accept(key);
+            }
+            readCount = head;
+        }
+    }
+
+    private static class AccessQueue {
+
+        private final Node head = new Node(null, null, NO_VERSION);
+        private int size;
+
+        private AccessQueue() {
+            head.previous = head;
+            head.next = head;
+        }
+
+        private void clear() {
+            Node node = head.next;
+            while (node != head) {
+                final Node next = node.next;
+                node.queue = null;
+                node.previous = null;
+                node.next = null;
+                node = next;
+            }
+            head.previous = head;
+            head.next = head;
+            size = 0;
+        }
+
+        private void addFirst(Node node) {
+            node.previous = head;
+            node.next = head.next;
+            head.next.previous = node;
+            head.next = node;
+            size++;
+        }
+
+        private void remove(Node node) {
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        private Node peekLast() {
+            if (size == 0) {
+                return null;
+            }
+            return head.previous;
+        }
+
+        private Node removeLast() {
+            final Node last = head.previous;
+            remove(last);
+            return last;
+        }
+    }
+}
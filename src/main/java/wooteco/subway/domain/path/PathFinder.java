@@ -0,0 +1,12 @@
+package wooteco.subway.domain.path;
+
+import wooteco.subway.domain.Station;
+
+public interface PathFinder {
+
+    Path findPath(Station sourceStation, Station targetStation);
+
+    default PreparationState getPreparationState() {
+        return PreparationState.READY;
+    }
+}
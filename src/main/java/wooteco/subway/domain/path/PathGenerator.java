@@ -6,5 +6,17 @@ import wooteco.subway.domain.Station;
 
 public interface PathGenerator {
 
-    Path generatePath(List<Section> sections, Station sourceStation, Station targetStation);
+    PathFinder prepare(RoutingGraph routingGraph);
+
+    default boolean readsGraphDirectly() {
+        return false;
+    }
+
+    default ShortestPathTree createShortestPathTree(RoutingGraph routingGraph, Station sourceStation) {
+        return ShortestPathTree.from(routingGraph, sourceStation);
+    }
+
+    default Path generatePath(List<Section> sections, Station sourceStation, Station targetStation) {
+        return prepare(RoutingGraph.from(sections)).findPath(sourceStation, targetStation);
+    }
 }
@@ -0,0 +1,8 @@
+package wooteco.subway.domain.path;
+
+public enum PathMode {
+
+    DISTANCE,
+    MIN_TRANSFER,
+    MIN_FARE
+}
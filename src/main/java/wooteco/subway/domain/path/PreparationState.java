@@ -0,0 +1,9 @@
+package wooteco.subway.domain.path;
+
+public enum PreparationState {
+
+    READY,
+    PREPARING,
+    SKIPPED,
+    FAILED
+}
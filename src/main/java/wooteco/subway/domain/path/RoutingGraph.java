@@ -0,0 +1,424 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class RoutingGraph {
+
+    static final int NO_VERTEX = -1;
+    static final int NO_EDGE = -1;
+    static final String NOT_CONNECTED_MESSAGE = "출발역과 도착역이 연결되어 있지 않습니다.";
+
+    private static final int MINIMUM_SPARE_EDGES = 16;
+
+    private final Station[] stations;
+    private final int stationCount;
+    private final Map<Long, Integer> stationIndexes;
+    private final int[] firstEdges;
+    private final int[] lastEdges;
+    private final EdgeStorage storage;
+    private final int edgeBound;
+    private final int liveEdgeCount;
+    private volatile List<Section> sections;
+
+    private RoutingGraph(Station[] stations, int stationCount, Map<Long, Integer> stationIndexes, int[] firstEdges,
+                         int[] lastEdges, EdgeStorage storage, int edgeBound, int liveEdgeCount,
+                         List<Section> sections) {
+        this.stations = stations;
+        this.stationCount = stationCount;
+        this.stationIndexes = stationIndexes;
+        this.firstEdges = firstEdges;
+        this.lastEdges = lastEdges;
+        this.storage = storage;
+        this.edgeBound = edgeBound;
+        this.liveEdgeCount = liveEdgeCount;
+        this.sections = sections;
+    }
+
+    public static RoutingGraph from(List<Section> sections) {
+        final List<Section> copiedSections = List.copyOf(sections);
+        final Map<Long, Integer> stationIndexes = new HashMap<>();
+        final List<Station> stations = new ArrayList<>();
+        for (Section section : copiedSections) {
+            addStation(stationIndexes, stations, section.getUpStation());
+            addStation(stationIndexes, stations, section.getDownStation());
+        }
+
+        final int[] offsets = createOffsets(copiedSections, stationIndexes, stations.size());
+        final int edgeCount = copiedSections.size() * 2;
+        final EdgeStorage storage = new EdgeStorage(edgeCount + edgeCount / 4 + MINIMUM_SPARE_EDGES);
+        final int[] cursors = offsets.clone();
+
+        for (Section section : copiedSections) {
+            final int up = stationIndexes.get(section.getUpStation().getId());
+            final int down = stationIndexes.get(section.getDownStation().getId());
+            storage.set(cursors[up]++, up, down, section);
+            storage.set(cursors[down]++, down, up, section);
+        }
+        storage.size = edgeCount;
+
+        return new RoutingGraph(stations.toArray(Station[]::new), stations.size(),
+                Collections.unmodifiableMap(stationIndexes), Arrays.copyOf(offsets, stations.size()),
+                Arrays.copyOfRange(offsets, 1, stations.size() + 1), storage, edgeCount, edgeCount, copiedSections);
+    }
+
+    private static void addStation(Map<Long, Integer> stationIndexes, List<Station> stations, Station station) {
+        if (!stationIndexes.containsKey(station.getId())) {
+            stationIndexes.put(station.getId(), stations.size());
+            stations.add(station);
+        }
+    }
+
+    private static int[] createOffsets(List<Section> sections, Map<Long, Integer> stationIndexes, int stationCount) {
+        final int[] offsets = new int[stationCount + 1];
+        for (Section section : sections) {
+            offsets[stationIndexes.get(section.getUpStation().getId()) + 1]++;
+            offsets[stationIndexes.get(section.getDownStation().getId()) + 1]++;
+        }
+        for (int i = 0; i < stationCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        return offsets;
+    }
+
+    public Optional<RoutingGraph> patch(List<Section> removedSections, List<Section> addedSections) {
+        final Set<Long> removedIds = new HashSet<>();
+        for (Section section : removedSections) {
+            if (section.getId() == null || !removedIds.add(section.getId())) {
+                return Optional.empty();
+            }
+        }
+        if (!canAdd(addedSections, removedIds)) {
+            return Optional.empty();
+        }
+
+        final Map<Long, Integer> nextIndexes = withNewStations(addedSections);
+        final Station[] nextStations = withNewStations(nextIndexes, addedSections);
+        final int nextStationCount = nextIndexes.size();
+        final int[] nextFirstEdges = Arrays.copyOf(firstEdges, nextStationCount);
+        final int[] nextLastEdges = Arrays.copyOf(lastEdges, nextStationCount);
+
+        final Map<Integer, List<Section>> addedByVertex = groupByVertex(nextIndexes, addedSections);
+        final Set<Integer> touchedVertices = new HashSet<>(addedByVertex.keySet());
+        for (Section section : removedSections) {
+            touchedVertices.add(stationIndexes.getOrDefault(section.getUpStation().getId(), NO_VERTEX));
+            touchedVertices.add(stationIndexes.getOrDefault(section.getDownStation().getId(), NO_VERTEX));
+        }
+        if (touchedVertices.contains(NO_VERTEX)) {
+            return Optional.empty();
+        }
+
+        EdgeStorage nextStorage = storage;
+        int removedArcs = 0;
+        synchronized (storage) {
+            final int required = storage.size + countPatchedArcs(touchedVertices, addedByVertex);
+            if (required > storage.capacity()) {
+                nextStorage = storage.grow(required);
+            }
+            for (int vertex : touchedVertices) {
+                final int first = nextStorage.size;
+                removedArcs += copySurvivingArcs(nextStorage, vertex, removedIds);
+                for (Section section : addedByVertex.getOrDefault(vertex, List.of())) {
+                    final int neighbor = otherEnd(nextIndexes, section, vertex);
+                    nextStorage.set(nextStorage.size++, vertex, neighbor, section);
+                }
+                nextFirstEdges[vertex] = first;
+                nextLastEdges[vertex] = nextStorage.size;
+            }
+        }
+        if (removedArcs != removedSections.size() * 2) {
+            return Optional.empty();
+        }
+
+        final RoutingGraph patched = new RoutingGraph(nextStations, nextStationCount, nextIndexes, nextFirstEdges,
+                nextLastEdges, nextStorage, nextStorage.size,
+                liveEdgeCount - removedArcs + addedSections.size() * 2, null);
+        if (patched.hasMoreDeadEdgesThanLive()) {
+            return Optional.of(RoutingGraph.from(patched.getSections()));
+        }
+        return Optional.of(patched);
+    }
+
+    private boolean canAdd(List<Section> addedSections, Set<Long> removedIds) {
+        final Set<Long> addedIds = new HashSet<>();
+        for (Section section : addedSections) {
+            if (section.getId() == null || !addedIds.add(section.getId())) {
+                return false;
+            }
+            if (!removedIds.contains(section.getId()) && hasLiveSection(section)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasLiveSection(Section section) {
+        final Integer vertex = stationIndexes.get(section.getUpStation().getId());
+        if (vertex == null) {
+            return false;
+        }
+        for (int edge = firstEdges[vertex]; edge < lastEdges[vertex]; edge++) {
+            if (section.getId().equals(storage.sections[edge].getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<Long, Integer> withNewStations(List<Section> addedSections) {
+        Map<Long, Integer> nextIndexes = stationIndexes;
+        for (Section section : addedSections) {
+            for (Station station : List.of(section.getUpStation(), section.getDownStation())) {
+                if (!nextIndexes.containsKey(station.getId())) {
+                    if (nextIndexes == stationIndexes) {
+                        nextIndexes = new HashMap<>(stationIndexes);
+                    }
+                    nextIndexes.put(station.getId(), nextIndexes.size());
+                }
+            }
+        }
+        if (nextIndexes == stationIndexes) {
+            return stationIndexes;
+        }
+        return Collections.unmodifiableMap(nextIndexes);
+    }
+
+    private Station[] withNewStations(Map<Long, Integer> nextIndexes, List<Section> addedSections) {
+        if (nextIndexes == stationIndexes) {
+            return stations;
+        }
+        final Station[] nextStations = Arrays.copyOf(stations, nextIndexes.size());
+        for (Section section : addedSections) {
+            nextStations[nextIndexes.get(section.getUpStation().getId())] = section.getUpStation();
+            nextStations[nextIndexes.get(section.getDownStation().getId())] = section.getDownStation();
+        }
+        return nextStations;
+    }
+
+    private Map<Integer, List<Section>> groupByVertex(Map<Long, Integer> indexes, List<Section> addedSections) {
+        final Map<Integer, List<Section>> sectionsByVertex = new HashMap<>();
+        for (Section section : addedSections) {
+            sectionsByVertex.computeIfAbsent(indexes.get(section.getUpStation().getId()), key -> new ArrayList<>())
+                    .add(section);
+            sectionsByVertex.computeIfAbsent(indexes.get(section.getDownStation().getId()), key -> new ArrayList<>())
+                    .add(section);
+        }
+        return sectionsByVertex;
+    }
+
+    private int countPatchedArcs(Set<Integer> touchedVertices, Map<Integer, List<Section>> addedByVertex) {
+        int count = 0;
+        for (int vertex : touchedVertices) {
+            if (vertex < stationCount) {
+                count += lastEdges[vertex] - firstEdges[vertex];
+            }
+            count += addedByVertex.getOrDefault(vertex, List.of()).size();
+        }
+        return count;
+    }
+
+    private int copySurvivingArcs(EdgeStorage target, int vertex, Set<Long> removedIds) {
+        if (vertex >= stationCount) {
+            return 0;
+        }
+        int removedArcs = 0;
+        for (int edge = firstEdges[vertex]; edge < lastEdges[vertex]; edge++) {
+            final Section section = storage.sections[edge];
+            if (removedIds.contains(section.getId())) {
+                removedArcs++;
+                continue;
+            }
+            target.set(target.size++, vertex, storage.neighbors[edge], section);
+        }
+        return removedArcs;
+    }
+
+    private int otherEnd(Map<Long, Integer> indexes, Section section, int vertex) {
+        final int up = indexes.get(section.getUpStation().getId());
+        if (up == vertex) {
+            return indexes.get(section.getDownStation().getId());
+        }
+        return up;
+    }
+
+    private boolean hasMoreDeadEdgesThanLive() {
+        return edgeBound - liveEdgeCount > Math.max(liveEdgeCount, MINIMUM_SPARE_EDGES);
+    }
+
+    public int indexOf(Station station) {
+        final Integer vertex = stationIndexes.get(station.getId());
+        if (vertex == null || firstEdges[vertex] == lastEdges[vertex]) {
+            return NO_VERTEX;
+        }
+        return vertex;
+    }
+
+    int requireVertex(Station station) {
+        final int vertex = indexOf(station);
+        if (vertex == NO_VERTEX) {
+            throw new IllegalPathException("경로를 찾으려는 역이 구간에 등록되어 있지 않습니다.");
+        }
+        return vertex;
+    }
+
+    public boolean contains(Station station) {
+        return indexOf(station) != NO_VERTEX;
+    }
+
+    public Station getStation(int vertex) {
+        return stations[vertex];
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeBound;
+    }
+
+    public List<Section> getSections() {
+        List<Section> current = sections;
+        if (current == null) {
+            current = collectSections();
+            sections = current;
+        }
+        return current;
+    }
+
+    private List<Section> collectSections() {
+        final List<Section> collected = new ArrayList<>(liveEdgeCount / 2);
+        for (int vertex = 0; vertex < stationCount; vertex++) {
+            for (int edge = firstEdges[vertex]; edge < lastEdges[vertex]; edge++) {
+                final Section section = storage.sections[edge];
+                if (section.getUpStation().equals(stations[vertex])) {
+                    collected.add(section);
+                }
+            }
+        }
+        return Collections.unmodifiableList(collected);
+    }
+
+    int firstEdge(int vertex) {
+        return firstEdges[vertex];
+    }
+
+    int lastEdge(int vertex) {
+        return lastEdges[vertex];
+    }
+
+    int neighbor(int edge) {
+        return storage.neighbors[edge];
+    }
+
+    int origin(int edge) {
+        return storage.origins[edge];
+    }
+
+    int distance(int edge) {
+        return storage.distances[edge];
+    }
+
+    Section section(int edge) {
+        return storage.sections[edge];
+    }
+
+    int extraFare(int edge) {
+        return section(edge).getLine().getExtraFare();
+    }
+
+    Path toPath(int source, int target, int[] previousEdges, int distance) {
+        final List<Station> stations = new ArrayList<>();
+        final List<Section> edges = new ArrayList<>();
+
+        stations.add(getStation(target));
+        walkBack(source, target, previousEdges, stations, edges);
+        Collections.reverse(stations);
+        Collections.reverse(edges);
+
+        return new Path(stations, distance, edges);
+    }
+
+    Path toPath(int source, int meeting, int target, int[] forwardEdges, int[] backwardEdges, int distance) {
+        final List<Station> stations = new ArrayList<>();
+        final List<Section> edges = new ArrayList<>();
+
+        stations.add(getStation(meeting));
+        walkBack(source, meeting, forwardEdges, stations, edges);
+        Collections.reverse(stations);
+        Collections.reverse(edges);
+        walkBack(target, meeting, backwardEdges, stations, edges);
+
+        return new Path(stations, distance, edges);
+    }
+
+    Path toPath(int source, int[] edges, int distance) {
+        final List<Station> stations = new ArrayList<>();
+        final List<Section> sections = new ArrayList<>();
+
+        stations.add(getStation(source));
+        for (int edge : edges) {
+            sections.add(section(edge));
+            stations.add(getStation(neighbor(edge)));
+        }
+
+        return new Path(stations, distance, sections);
+    }
+
+    private void walkBack(int root, int from, int[] previousEdges, List<Station> stations, List<Section> edges) {
+        int vertex = from;
+        while (vertex != root) {
+            final int edge = previousEdges[vertex];
+            edges.add(section(edge));
+            vertex = origin(edge);
+            stations.add(getStation(vertex));
+        }
+    }
+
+    private static class EdgeStorage {
+
+        private final int[] neighbors;
+        private final int[] origins;
+        private final int[] distances;
+        private final Section[] sections;
+        private int size;
+
+        private EdgeStorage(int capacity) {
+            this.neighbors = new int[capacity];
+            this.origins = new int[capacity];
+            this.distances = new int[capacity];
+            this.sections = new Section[capacity];
+        }
+
+        private int capacity() {
+            return neighbors.length;
+        }
+
+        private void set(int edge, int origin, int neighbor, Section section) {
+            neighbors[edge] = neighbor;
+            origins[edge] = origin;
+            distances[edge] = section.getDistance();
+            sections[edge] = section;
+        }
+
+        private EdgeStorage grow(int required) {
+            final EdgeStorage grown = new EdgeStorage(Math.max(required, capacity() * 2));
+            System.arraycopy(neighbors, 0, grown.neighbors, 0, size);
+            System.arraycopy(origins, 0, grown.origins, 0, size);
+            System.arraycopy(distances, 0, grown.distances, 0, size);
+            System.arraycopy(sections, 0, grown.sections, 0, size);
+            grown.size = size;
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class SearchFrontier {
+
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int[] distances;
+    private final int[] previousEdges;
+    private final DistanceHeap heap = new DistanceHeap();
+
+    SearchFrontier(RoutingGraph graph) {
+        this(graph.getStationCount());
+    }
+
+    SearchFrontier(int vertexCount) {
+        this.distances = new int[vertexCount];
+        this.previousEdges = new int[vertexCount];
+        Arrays.fill(distances, UNREACHABLE);
+    }
+
+    void clear() {
+        Arrays.fill(distances, UNREACHABLE);
+        heap.clear();
+    }
+
+    boolean improve(int vertex, int edge, int distance) {
+        if (distance >= distances[vertex]) {
+            return false;
+        }
+        distances[vertex] = distance;
+        previousEdges[vertex] = edge;
+        heap.push(vertex, distance);
+        return true;
+    }
+
+    boolean hasNext() {
+        skipStaleEntries();
+        return !heap.isEmpty();
+    }
+
+    int peekDistance() {
+        skipStaleEntries();
+        if (heap.isEmpty()) {
+            return UNREACHABLE;
+        }
+        return heap.peekDistance();
+    }
+
+    int next() {
+        skipStaleEntries();
+        return heap.poll();
+    }
+
+    int distanceOf(int vertex) {
+        return distances[vertex];
+    }
+
+    int[] getDistances() {
+        return distances;
+    }
+
+    int[] getPreviousEdges() {
+        return previousEdges;
+    }
+
+    private void skipStaleEntries() {
+        while (!heap.isEmpty() && isStale()) {
+            heap.poll();
+        }
+    }
+
+    private boolean isStale() {
+        final int distance = heap.peekDistance();
+        final int vertex = heap.peekVertex();
+        return distance > distances[vertex];
+    }
+}
@@ -0,0 +1,81 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+
+class SearchWorkspace {
+
+    private static final ThreadLocal<SearchWorkspace> WORKSPACES = new ThreadLocal<>();
+
+    private final int[] distances;
+    private final int[] previousEdges;
+    private final int[] reachedStamps;
+    private final int[] settledStamps;
+    private final IndexedDaryHeap heap;
+    private int epoch;
+
+    private SearchWorkspace(int capacity) {
+        this.distances = new int[capacity];
+        this.previousEdges = new int[capacity];
+        this.reachedStamps = new int[capacity];
+        this.settledStamps = new int[capacity];
+        this.heap = new IndexedDaryHeap(capacity);
+    }
+
+    static SearchWorkspace acquire(RoutingGraph graph) {
+        SearchWorkspace workspace = WORKSPACES.get();
+        if (workspace == null || workspace.heap.capacity() < graph.getStationCount()) {
+            workspace = new SearchWorkspace(graph.getStationCount());
+            WORKSPACES.set(workspace);
+        }
+        workspace.begin();
+        return workspace;
+    }
+
+    private void begin() {
+        heap.clear();
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(reachedStamps, 0);
+            Arrays.fill(settledStamps, 0);
+            epoch = 1;
+        }
+    }
+
+    void improve(int vertex, int edge, int distance) {
+        improve(vertex, edge, distance, distance);
+    }
+
+    void improve(int vertex, int edge, int distance, int priority) {
+        if (distance >= distanceOf(vertex)) {
+            return;
+        }
+        reachedStamps[vertex] = epoch;
+        distances[vertex] = distance;
+        previousEdges[vertex] = edge;
+        heap.insertOrDecrease(vertex, priority);
+    }
+
+    boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    int next() {
+        final int vertex = heap.poll();
+        settledStamps[vertex] = epoch;
+        return vertex;
+    }
+
+    boolean isSettled(int vertex) {
+        return settledStamps[vertex] == epoch;
+    }
+
+    int distanceOf(int vertex) {
+        if (reachedStamps[vertex] != epoch) {
+            return SearchFrontier.UNREACHABLE;
+        }
+        return distances[vertex];
+    }
+
+    int[] getPreviousEdges() {
+        return previousEdges;
+    }
+}
@@ -0,0 +1,113 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class ShortestPathTree {
+
+    private final RoutingGraph graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] previousEdges;
+    private final int[] maxExtraFares;
+    private final int[] settledVertices;
+
+    private ShortestPathTree(RoutingGraph graph, int source, int[] distances, int[] previousEdges,
+                             int[] maxExtraFares, int[] settledVertices) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.previousEdges = previousEdges;
+        this.maxExtraFares = maxExtraFares;
+        this.settledVertices = settledVertices;
+    }
+
+    public static ShortestPathTree from(RoutingGraph graph, Station sourceStation) {
+        return within(graph, sourceStation, SearchFrontier.UNREACHABLE - 1);
+    }
+
+    public static ShortestPathTree within(RoutingGraph graph, Station sourceStation, int maxDistance) {
+        final int source = graph.requireVertex(sourceStation);
+        final SearchFrontier frontier = new SearchFrontier(graph);
+        final int[] previousEdges = frontier.getPreviousEdges();
+        final int[] maxExtraFares = new int[graph.getStationCount()];
+        final IntArrayList settledVertices = new IntArrayList(graph.getStationCount());
+        frontier.improve(source, RoutingGraph.NO_EDGE, 0);
+
+        while (frontier.hasNext() && frontier.peekDistance() <= maxDistance) {
+            final int vertex = frontier.next();
+            settledVertices.add(vertex);
+            final int distance = frontier.distanceOf(vertex);
+            if (vertex != source) {
+                final int edge = previousEdges[vertex];
+                maxExtraFares[vertex] = Math.max(maxExtraFares[graph.origin(edge)], graph.extraFare(edge));
+            }
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                frontier.improve(graph.neighbor(edge), edge, distance + graph.distance(edge));
+            }
+        }
+        final int[] distances = frontier.getDistances();
+        for (int vertex = 0; vertex < distances.length; vertex++) {
+            if (distances[vertex] > maxDistance) {
+                distances[vertex] = SearchFrontier.UNREACHABLE;
+            }
+        }
+        return new ShortestPathTree(graph, source, distances, previousEdges, maxExtraFares,
+                settledVertices.toArray());
+    }
+
+    static ShortestPathTree of(RoutingGraph graph, int source, int[] distances, int[] previousEdges) {
+        final int[] settledVertices = IntStream.range(0, distances.length)
+                .filter(vertex -> distances[vertex] != SearchFrontier.UNREACHABLE)
+                .boxed()
+                .sorted(Comparator.comparingInt(vertex -> distances[vertex]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        final int[] maxExtraFares = new int[graph.getStationCount()];
+        for (int vertex : settledVertices) {
+            if (vertex != source) {
+                final int edge = previousEdges[vertex];
+                maxExtraFares[vertex] = Math.max(maxExtraFares[graph.origin(edge)], graph.extraFare(edge));
+            }
+        }
+        return new ShortestPathTree(graph, source, distances, previousEdges, maxExtraFares, settledVertices);
+    }
+
+    public List<Station> getReachableStations() {
+        final List<Station> stations = new ArrayList<>(settledVertices.length);
+        for (int vertex : settledVertices) {
+            stations.add(graph.getStation(vertex));
+        }
+        return stations;
+    }
+
+    public boolean isReachable(Station targetStation) {
+        final int target = graph.indexOf(targetStation);
+        return target != RoutingGraph.NO_VERTEX && distances[target] != SearchFrontier.UNREACHABLE;
+    }
+
+    public int distanceTo(Station targetStation) {
+        return distances[requireReachable(targetStation)];
+    }
+
+    public int maxExtraFareTo(Station targetStation) {
+        return maxExtraFares[requireReachable(targetStation)];
+    }
+
+    public Path pathTo(Station targetStation) {
+        final int target = requireReachable(targetStation);
+        return graph.toPath(source, target, previousEdges, distances[target]);
+    }
+
+    private int requireReachable(Station targetStation) {
+        final int target = graph.requireVertex(targetStation);
+        if (distances[target] == SearchFrontier.UNREACHABLE) {
+            throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,149 @@
+package wooteco.subway.domain.path;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wooteco.subway.domain.Station;
+
+@Component
+public class SourceTreeCache {
+
+    private static final long NO_VERSION = -1L;
+    private static final int BYTES_PER_VERTEX = 4 * Integer.BYTES;
+    private static final int SAMPLE_SIZE = 256;
+
+    private final long memoryBudget;
+    private final ExecutorService executor;
+    private final Map<Long, Integer> frequencies = new HashMap<>();
+    private final AtomicReference<NetworkSnapshot> latestSnapshot = new AtomicReference<>();
+    private final AtomicBoolean precomputeScheduled = new AtomicBoolean();
+    private final LongAdder hitCount = new LongAdder();
+    private volatile SourceTrees sourceTrees = new SourceTrees(NO_VERSION, Map.of());
+    private int recordCount;
+
+    public SourceTreeCache(@Value("${subway.path.source-tree.memory-budget:16777216}") long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "source-tree-precompute");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Optional<Path> findPath(NetworkSnapshot snapshot, Station sourceStation, Station targetStation) {
+        final SourceTrees current = sourceTrees;
+        if (current.version != snapshot.getVersion()) {
+            schedulePrecompute(snapshot);
+            return Optional.empty();
+        }
+
+        final ShortestPathTree tree = current.trees.get(sourceStation.getId());
+        if (tree == null || !tree.isReachable(targetStation)) {
+            return Optional.empty();
+        }
+        hitCount.increment();
+        return Optional.of(tree.pathTo(targetStation));
+    }
+
+    public void record(NetworkSnapshot snapshot, Station sourceStation) {
+        final boolean sampled;
+        synchronized (frequencies) {
+            frequencies.merge(sourceStation.getId(), 1, Integer::sum);
+            sampled = ++recordCount >= SAMPLE_SIZE;
+            if (sampled) {
+                recordCount = 0;
+                frequencies.replaceAll((id, frequency) -> frequency / 2);
+                frequencies.values().removeIf(frequency -> frequency == 0);
+            }
+        }
+        if (sampled || sourceTrees.version != snapshot.getVersion()) {
+            schedulePrecompute(snapshot);
+        }
+    }
+
+    private void schedulePrecompute(NetworkSnapshot snapshot) {
+        latestSnapshot.accumulateAndGet(snapshot, (current, next) -> newer(current, next));
+        if (precomputeScheduled.compareAndSet(false, true)) {
+            executor.execute(this::precompute);
+        }
+    }
+
+    private NetworkSnapshot newer(NetworkSnapshot current, NetworkSnapshot next) {
+        if (current == null || current.getVersion() <= next.getVersion()) {
+            return next;
+        }
+        return current;
+    }
+
+    private void precompute() {
+        precomputeScheduled.set(false);
+        final NetworkSnapshot snapshot = latestSnapshot.get();
+        final RoutingGraph graph = snapshot.getRoutingGraph();
+        final SourceTrees current = sourceTrees;
+
+        final Map<Long, ShortestPathTree> trees = new HashMap<>();
+        for (Station station : findHotSources(snapshot, maxTreeCount(graph))) {
+            final ShortestPathTree tree = reuseOrBuild(current, snapshot, station);
+            trees.put(station.getId(), tree);
+        }
+        sourceTrees = new SourceTrees(snapshot.getVersion(), Map.copyOf(trees));
+    }
+
+    private int maxTreeCount(RoutingGraph graph) {
+        final long treeBytes = (long) Math.max(graph.getStationCount(), 1) * BYTES_PER_VERTEX;
+        return (int) Math.min(memoryBudget / treeBytes, Integer.MAX_VALUE);
+    }
+
+    private List<Station> findHotSources(NetworkSnapshot snapshot, int limit) {
+        final List<Entry<Long, Integer>> hotSources;
+        synchronized (frequencies) {
+            hotSources = frequencies.entrySet().stream()
+                    .sorted(Entry.<Long, Integer>comparingByValue().reversed())
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                    .collect(toList());
+        }
+        return hotSources.stream()
+                .map(entry -> snapshot.findStation(entry.getKey()))
+                .flatMap(Optional::stream)
+                .filter(station -> snapshot.getRoutingGraph().contains(station))
+                .limit(limit)
+                .collect(toList());
+    }
+
+    private ShortestPathTree reuseOrBuild(SourceTrees current, NetworkSnapshot snapshot, Station station) {
+        if (current.version == snapshot.getVersion() && current.trees.containsKey(station.getId())) {
+            return current.trees.get(station.getId());
+        }
+        return snapshot.createShortestPathTree(station);
+    }
+
+    public int getTreeCount() {
+        return sourceTrees.trees.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    private static class SourceTrees {
+
+        private final long version;
+        private final Map<Long, ShortestPathTree> trees;
+
+        private SourceTrees(long version, Map<Long, ShortestPathTree> trees) {
+            this.version = version;
+            this.trees = trees;
+        }
+    }
+}
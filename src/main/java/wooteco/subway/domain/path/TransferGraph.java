@@ -0,0 +1,194 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+public class TransferGraph {
+
+    private static final int TRANSFER = RoutingGraph.NO_EDGE;
+
+    private final RoutingGraph graph;
+    private final int[] nodeStations;
+    private final int[] stationOffsets;
+    private final int[] stationNodes;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final int[] origins;
+    private final int[] rideEdges;
+    private final int fewestTransfersPenalty;
+
+    private TransferGraph(RoutingGraph graph, int[] nodeStations, int[] stationOffsets, int[] stationNodes,
+                          int[] offsets, int[] neighbors, int[] origins, int[] rideEdges, int fewestTransfersPenalty) {
+        this.graph = graph;
+        this.nodeStations = nodeStations;
+        this.stationOffsets = stationOffsets;
+        this.stationNodes = stationNodes;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.origins = origins;
+        this.rideEdges = rideEdges;
+        this.fewestTransfersPenalty = fewestTransfersPenalty;
+    }
+
+    public static TransferGraph from(RoutingGraph graph) {
+        final Map<Long, Integer> nodeIndexes = new HashMap<>();
+        final IntArrayList nodeStations = new IntArrayList();
+        final int[] nodeOfEdge = new int[graph.getEdgeCount()];
+        long totalDistance = 0;
+        for (int station = 0; station < graph.getStationCount(); station++) {
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                nodeOfEdge[edge] = addNode(nodeIndexes, nodeStations, station, graph.section(edge));
+                totalDistance += graph.distance(edge);
+            }
+        }
+
+        final int[] stationOffsets = createStationOffsets(graph.getStationCount(), nodeStations);
+        final int[] stationNodes = new int[nodeStations.size()];
+        final int[] stationCursors = stationOffsets.clone();
+        for (int node = 0; node < nodeStations.size(); node++) {
+            stationNodes[stationCursors[nodeStations.get(node)]++] = node;
+        }
+
+        final List<int[]> arcs = new ArrayList<>();
+        for (int station = 0; station < graph.getStationCount(); station++) {
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                arcs.add(new int[]{nodeOfEdge[edge], findTwin(graph, nodeIndexes, edge), edge});
+            }
+        }
+        for (int station = 0; station < graph.getStationCount(); station++) {
+            for (int from = stationOffsets[station]; from < stationOffsets[station + 1]; from++) {
+                for (int to = stationOffsets[station]; to < stationOffsets[station + 1]; to++) {
+                    if (from != to) {
+                        arcs.add(new int[]{stationNodes[from], stationNodes[to], TRANSFER});
+                    }
+                }
+            }
+        }
+        return fromArcs(graph, nodeStations.toArray(), stationOffsets, stationNodes, arcs,
+                (int) Math.min(totalDistance / 2 + 1, Integer.MAX_VALUE));
+    }
+
+    private static int addNode(Map<Long, Integer> nodeIndexes, IntArrayList nodeStations, int station,
+                               Section section) {
+        final long key = nodeKey(station, section);
+        final Integer node = nodeIndexes.get(key);
+        if (node != null) {
+            return node;
+        }
+        nodeIndexes.put(key, nodeStations.size());
+        nodeStations.add(station);
+        return nodeStations.size() - 1;
+    }
+
+    private static int findTwin(RoutingGraph graph, Map<Long, Integer> nodeIndexes, int edge) {
+        return nodeIndexes.get(nodeKey(graph.neighbor(edge), graph.section(edge)));
+    }
+
+    private static long nodeKey(int station, Section section) {
+        return ((long) station << Integer.SIZE) | section.getLine().getId();
+    }
+
+    private static int[] createStationOffsets(int stationCount, IntArrayList nodeStations) {
+        final int[] stationOffsets = new int[stationCount + 1];
+        for (int node = 0; node < nodeStations.size(); node++) {
+            stationOffsets[nodeStations.get(node) + 1]++;
+        }
+        for (int i = 0; i < stationCount; i++) {
+            stationOffsets[i + 1] += stationOffsets[i];
+        }
+        return stationOffsets;
+    }
+
+    private static TransferGraph fromArcs(RoutingGraph graph, int[] nodeStations, int[] stationOffsets,
+                                          int[] stationNodes, List<int[]> arcs, int fewestTransfersPenalty) {
+        final int[] offsets = new int[nodeStations.length + 1];
+        for (int[] arc : arcs) {
+            offsets[arc[0] + 1]++;
+        }
+        for (int i = 0; i < nodeStations.length; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        final int[] cursors = offsets.clone();
+        final int[] neighbors = new int[arcs.size()];
+        final int[] origins = new int[arcs.size()];
+        final int[] rideEdges = new int[arcs.size()];
+        for (int[] arc : arcs) {
+            final int index = cursors[arc[0]]++;
+            origins[index] = arc[0];
+            neighbors[index] = arc[1];
+            rideEdges[index] = arc[2];
+        }
+        return new TransferGraph(graph, nodeStations, stationOffsets, stationNodes, offsets, neighbors, origins,
+                rideEdges, fewestTransfersPenalty);
+    }
+
+    public Path findFewestTransfersPath(Station sourceStation, Station targetStation) {
+        return findPath(sourceStation, targetStation, fewestTransfersPenalty);
+    }
+
+    public Path findPath(Station sourceStation, Station targetStation, int transferPenalty) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        final SearchFrontier frontier = new SearchFrontier(nodeStations.length);
+        for (int i = stationOffsets[source]; i < stationOffsets[source + 1]; i++) {
+            frontier.improve(stationNodes[i], RoutingGraph.NO_EDGE, 0);
+        }
+
+        while (frontier.hasNext()) {
+            final int node = frontier.next();
+            if (nodeStations[node] == target) {
+                return toPath(node, frontier.getPreviousEdges());
+            }
+            relax(frontier, node, transferPenalty);
+        }
+        throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+    }
+
+    private void relax(SearchFrontier frontier, int node, int transferPenalty) {
+        final long cost = frontier.distanceOf(node);
+        for (int arc = offsets[node]; arc < offsets[node + 1]; arc++) {
+            final long nextCost = cost + weight(arc, transferPenalty);
+            if (nextCost < SearchFrontier.UNREACHABLE) {
+                frontier.improve(neighbors[arc], arc, (int) nextCost);
+            }
+        }
+    }
+
+    private int weight(int arc, int transferPenalty) {
+        if (rideEdges[arc] == TRANSFER) {
+            return transferPenalty;
+        }
+        return graph.distance(rideEdges[arc]);
+    }
+
+    private Path toPath(int targetNode, int[] previousArcs) {
+        final List<Station> stations = new ArrayList<>();
+        final List<Section> sections = new ArrayList<>();
+        int distance = 0;
+
+        stations.add(graph.getStation(nodeStations[targetNode]));
+        int node = targetNode;
+        int arc = previousArcs[node];
+        while (arc != RoutingGraph.NO_EDGE) {
+            if (rideEdges[arc] != TRANSFER) {
+                sections.add(graph.section(rideEdges[arc]));
+                stations.add(graph.getStation(nodeStations[origins[arc]]));
+                distance += graph.distance(rideEdges[arc]);
+            }
+            node = origins[arc];
+            arc = previousArcs[node];
+        }
+        Collections.reverse(stations);
+        Collections.reverse(sections);
+
+        return new Path(stations, distance, sections);
+    }
+}
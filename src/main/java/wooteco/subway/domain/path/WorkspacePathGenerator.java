@@ -0,0 +1,48 @@
+package wooteco.subway.domain.path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import wooteco.subway.domain.Station;
+import wooteco.subway.exception.IllegalPathException;
+
+@Component
+@ConditionalOnProperty(name = "subway.path.engine", havingValue = "workspace")
+public class WorkspacePathGenerator implements PathGenerator {
+
+    @Override
+    public boolean readsGraphDirectly() {
+        return true;
+    }
+
+    @Override
+    public PathFinder prepare(RoutingGraph graph) {
+        return (sourceStation, targetStation) -> findPath(graph, sourceStation, targetStation);
+    }
+
+    private Path findPath(RoutingGraph graph, Station sourceStation, Station targetStation) {
+        final int source = graph.requireVertex(sourceStation);
+        final int target = graph.requireVertex(targetStation);
+
+        final SearchWorkspace workspace = SearchWorkspace.acquire(graph);
+        workspace.improve(source, RoutingGraph.NO_EDGE, 0);
+
+        while (workspace.hasNext()) {
+            final int vertex = workspace.next();
+            final int distance = workspace.distanceOf(vertex);
+            if (vertex == target) {
+                return graph.toPath(source, target, workspace.getPreviousEdges(), distance);
+            }
+            relax(graph, workspace, vertex, distance);
+        }
+        throw new IllegalPathException(RoutingGraph.NOT_CONNECTED_MESSAGE);
+    }
+
+    private void relax(RoutingGraph graph, SearchWorkspace workspace, int vertex, int distance) {
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            final int neighbor = graph.neighbor(edge);
+            if (!workspace.isSettled(neighbor)) {
+                workspace.improve(neighbor, edge, distance + graph.distance(edge));
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package wooteco.subway.domain.vo;
+
+import java.util.Objects;
+
+public class Coordinate {
+
+    private static final double MAX_LATITUDE = 90.0;
+    private static final double MAX_LONGITUDE = 180.0;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final double latitude;
+    private final double longitude;
+
+    private Coordinate(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static Coordinate of(double latitude, double longitude) {
+        validateRange(latitude, longitude);
+
+        return new Coordinate(latitude, longitude);
+    }
+
+    private static void validateRange(double latitude, double longitude) {
+        if (Math.abs(latitude) > MAX_LATITUDE || Math.abs(longitude) > MAX_LONGITUDE) {
+            throw new IllegalArgumentException("위도는 -90~90, 경도는 -180~180 사이여야 합니다.");
+        }
+    }
+
+    public double distanceTo(Coordinate other) {
+        final double latitudeDelta = Math.toRadians(other.latitude - latitude);
+        final double longitudeDelta = Math.toRadians(other.longitude - longitude);
+        final double haversine = Math.pow(Math.sin(latitudeDelta / 2), 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.pow(Math.sin(longitudeDelta / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(haversine)));
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Coordinate that = (Coordinate) o;
+        return Double.compare(that.latitude, latitude) == 0 && Double.compare(that.longitude, longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(latitude, longitude);
+    }
+}
@@ -0,0 +1,32 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public class ApproximatePathMatrixRequest {
+
+    @NotEmpty(message = "출발역 목록을 입력해주세요.")
+    @Size(max = 1000, message = "출발역은 1000개 이하여야 합니다.")
+    private List<Long> sources;
+
+    @NotEmpty(message = "도착역 목록을 입력해주세요.")
+    @Size(max = 1000, message = "도착역은 1000개 이하여야 합니다.")
+    private List<Long> targets;
+
+    public ApproximatePathMatrixRequest() {
+    }
+
+    public ApproximatePathMatrixRequest(List<Long> sources, List<Long> targets) {
+        this.sources = sources;
+        this.targets = targets;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+}
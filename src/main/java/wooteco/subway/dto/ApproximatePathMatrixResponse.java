@@ -0,0 +1,44 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+
+public class ApproximatePathMatrixResponse {
+
+    private List<Long> sources;
+    private List<Long> targets;
+    private int stretch;
+    private List<List<Integer>> estimates;
+    private List<List<Integer>> upperBounds;
+
+    public ApproximatePathMatrixResponse() {
+    }
+
+    public ApproximatePathMatrixResponse(List<Long> sources, List<Long> targets, int stretch,
+                                         List<List<Integer>> estimates, List<List<Integer>> upperBounds) {
+        this.sources = sources;
+        this.targets = targets;
+        this.stretch = stretch;
+        this.estimates = estimates;
+        this.upperBounds = upperBounds;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public int getStretch() {
+        return stretch;
+    }
+
+    public List<List<Integer>> getEstimates() {
+        return estimates;
+    }
+
+    public List<List<Integer>> getUpperBounds() {
+        return upperBounds;
+    }
+}
@@ -0,0 +1,35 @@
+package wooteco.subway.dto;
+
+public class FareQuoteResponse {
+
+    private Long source;
+    private Long target;
+    private int distance;
+    private int fare;
+
+    public FareQuoteResponse() {
+    }
+
+    public FareQuoteResponse(Long source, Long target, int distance, int fare) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
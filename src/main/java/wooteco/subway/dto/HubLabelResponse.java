@@ -0,0 +1,41 @@
+package wooteco.subway.dto;
+
+public class HubLabelResponse {
+
+    private int stationCount;
+    private int labelCount;
+    private double averageLabelSize;
+    private int maxLabelSize;
+    private long buildMillis;
+
+    public HubLabelResponse() {
+    }
+
+    public HubLabelResponse(int stationCount, int labelCount, int maxLabelSize, long buildMillis) {
+        this.stationCount = stationCount;
+        this.labelCount = labelCount;
+        this.averageLabelSize = stationCount == 0 ? 0 : (double) labelCount / stationCount;
+        this.maxLabelSize = maxLabelSize;
+        this.buildMillis = buildMillis;
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public int getLabelCount() {
+        return labelCount;
+    }
+
+    public double getAverageLabelSize() {
+        return averageLabelSize;
+    }
+
+    public int getMaxLabelSize() {
+        return maxLabelSize;
+    }
+
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+}
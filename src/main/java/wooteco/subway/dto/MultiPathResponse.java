@@ -0,0 +1,29 @@
+package wooteco.subway.dto;
+
+public class MultiPathResponse {
+
+    private Long source;
+    private Long target;
+    private PathResponse path;
+
+    public MultiPathResponse() {
+    }
+
+    public MultiPathResponse(Long source, Long target, PathResponse path) {
+        this.source = source;
+        this.target = target;
+        this.path = path;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public PathResponse getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,43 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+public class PathMatrixRequest {
+
+    @NotEmpty(message = "출발역 목록을 입력해주세요.")
+    @Size(max = 100, message = "출발역은 100개 이하여야 합니다.")
+    private List<Long> sources;
+
+    @NotEmpty(message = "도착역 목록을 입력해주세요.")
+    @Size(max = 100, message = "도착역은 100개 이하여야 합니다.")
+    private List<Long> targets;
+
+    @NotNull(message = "나이를 입력해주세요.")
+    @Min(value = 1, message = "나이는 양수여야 합니다.")
+    private Integer age;
+
+    public PathMatrixRequest() {
+    }
+
+    public PathMatrixRequest(List<Long> sources, List<Long> targets, Integer age) {
+        this.sources = sources;
+        this.targets = targets;
+        this.age = age;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+}
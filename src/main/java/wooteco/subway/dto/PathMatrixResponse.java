@@ -0,0 +1,38 @@
+package wooteco.subway.dto;
+
+import java.util.List;
+
+public class PathMatrixResponse {
+
+    private List<Long> sources;
+    private List<Long> targets;
+    private List<List<Integer>> distances;
+    private List<List<Integer>> fares;
+
+    public PathMatrixResponse() {
+    }
+
+    public PathMatrixResponse(List<Long> sources, List<Long> targets, List<List<Integer>> distances,
+                              List<List<Integer>> fares) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+        this.fares = fares;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public List<List<Integer>> getDistances() {
+        return distances;
+    }
+
+    public List<List<Integer>> getFares() {
+        return fares;
+    }
+}
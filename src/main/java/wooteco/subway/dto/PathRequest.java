@@ -1,7 +1,10 @@
 package wooteco.subway.dto;
 
+import java.util.List;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import wooteco.subway.domain.path.PathMode;
 
 public class PathRequest {
 
@@ -14,10 +17,21 @@ public class PathRequest {
     @Min(value = 1, message = "나이는 양수여야 합니다.")
     private Integer age;
 
-    public PathRequest(Long source, Long target, Integer age) {
+    @Min(value = 1, message = "찾으려는 경로의 수는 1 이상이어야 합니다.")
+    @Max(value = 5, message = "찾으려는 경로의 수는 5 이하여야 합니다.")
+    private Integer k;
+
+    private PathMode mode;
+
+    private List<Long> via;
+
+    public PathRequest(Long source, Long target, Integer age, Integer k, PathMode mode, List<Long> via) {
         this.source = source;
         this.target = target;
         this.age = age;
+        this.k = k;
+        this.mode = mode;
+        this.via = via;
     }
 
     public Long getSource() {
@@ -31,4 +45,16 @@ public class PathRequest {
     public Integer getAge() {
         return age;
     }
+
+    public Integer getK() {
+        return k;
+    }
+
+    public PathMode getMode() {
+        return mode;
+    }
+
+    public List<Long> getVia() {
+        return via;
+    }
 }
@@ -7,14 +7,20 @@ public class PathResponse {
     private List<StationResponse> stations;
     private int distance;
     private int fare;
+    private List<PathResponse> alternatives;
 
     public PathResponse() {
     }
 
     public PathResponse(List<StationResponse> stations, int distance, int fare) {
+        this(stations, distance, fare, List.of());
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance, int fare, List<PathResponse> alternatives) {
         this.stations = stations;
         this.distance = distance;
         this.fare = fare;
+        this.alternatives = alternatives;
     }
 
     public List<StationResponse> getStations() {
@@ -28,4 +34,8 @@ public class PathResponse {
     public int getFare() {
         return fare;
     }
+
+    public List<PathResponse> getAlternatives() {
+        return alternatives;
+    }
 }
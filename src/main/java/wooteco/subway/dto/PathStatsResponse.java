@@ -0,0 +1,61 @@
+package wooteco.subway.dto;
+
+public class PathStatsResponse {
+
+    private long cacheHitCount;
+    private long cacheMissCount;
+    private long cacheInvalidatedCount;
+    private long computationCount;
+    private long coalescedCount;
+    private long searchCount;
+    private long sourceTreeHitCount;
+    private String preparationState;
+
+    public PathStatsResponse() {
+    }
+
+    public PathStatsResponse(long cacheHitCount, long cacheMissCount, long cacheInvalidatedCount,
+                             long computationCount, long coalescedCount, long searchCount, long sourceTreeHitCount,
+                             String preparationState) {
+        this.cacheHitCount = cacheHitCount;
+        this.cacheMissCount = cacheMissCount;
+        this.cacheInvalidatedCount = cacheInvalidatedCount;
+        this.computationCount = computationCount;
+        this.coalescedCount = coalescedCount;
+        this.searchCount = searchCount;
+        this.sourceTreeHitCount = sourceTreeHitCount;
+        this.preparationState = preparationState;
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount;
+    }
+
+    public long getCacheMissCount() {
+        return cacheMissCount;
+    }
+
+    public long getCacheInvalidatedCount() {
+        return cacheInvalidatedCount;
+    }
+
+    public long getComputationCount() {
+        return computationCount;
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    public long getSearchCount() {
+        return searchCount;
+    }
+
+    public long getSourceTreeHitCount() {
+        return sourceTreeHitCount;
+    }
+
+    public String getPreparationState() {
+        return preparationState;
+    }
+}
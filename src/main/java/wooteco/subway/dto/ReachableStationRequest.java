@@ -0,0 +1,43 @@
+package wooteco.subway.dto;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+public class ReachableStationRequest {
+
+    @NotNull(message = "출발역을 입력해주세요.")
+    private Long source;
+
+    @NotNull(message = "나이를 입력해주세요.")
+    @Min(value = 1, message = "나이는 양수여야 합니다.")
+    private Integer age;
+
+    @Min(value = 0, message = "최대 거리는 0 이상이어야 합니다.")
+    private Integer maxDistance;
+
+    @Min(value = 0, message = "최대 요금은 0 이상이어야 합니다.")
+    private Integer maxFare;
+
+    public ReachableStationRequest(Long source, Integer age, Integer maxDistance, Integer maxFare) {
+        this.source = source;
+        this.age = age;
+        this.maxDistance = maxDistance;
+        this.maxFare = maxFare;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public Integer getMaxDistance() {
+        return maxDistance;
+    }
+
+    public Integer getMaxFare() {
+        return maxFare;
+    }
+}
@@ -0,0 +1,37 @@
+package wooteco.subway.dto;
+
+import wooteco.subway.domain.Station;
+
+public class ReachableStationResponse {
+
+    private Long id;
+    private String name;
+    private int distance;
+    private int fare;
+
+    public ReachableStationResponse() {
+    }
+
+    public ReachableStationResponse(Station station, int distance, int fare) {
+        this.id = station.getId();
+        this.name = station.getName();
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
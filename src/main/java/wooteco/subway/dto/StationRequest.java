@@ -1,19 +1,43 @@
 package wooteco.subway.dto;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.NotBlank;
 
 public class StationRequest {
     @NotBlank(message = "역 이름을 입력해주세요.")
     private String name;
 
+    @DecimalMin(value = "-90.0", message = "위도는 -90보다 크거나 같아야합니다.")
+    @DecimalMax(value = "90.0", message = "위도는 90보다 작거나 같아야합니다.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "경도는 -180보다 크거나 같아야합니다.")
+    @DecimalMax(value = "180.0", message = "경도는 180보다 작거나 같아야합니다.")
+    private Double longitude;
+
     public StationRequest() {
     }
 
     public StationRequest(String name) {
+        this(name, null, null);
+    }
+
+    public StationRequest(String name, Double latitude, Double longitude) {
         this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
 
     public String getName() {
         return name;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
 }
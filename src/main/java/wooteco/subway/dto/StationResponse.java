@@ -1,10 +1,13 @@
 package wooteco.subway.dto;
 
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.vo.Coordinate;
 
 public class StationResponse {
     private Long id;
     private String name;
+    private Double latitude;
+    private Double longitude;
 
     public StationResponse() {
     }
@@ -17,6 +20,8 @@ public class StationResponse {
     public StationResponse(Station station) {
         this.id = station.getId();
         this.name = station.getName();
+        this.latitude = station.getCoordinate().map(Coordinate::getLatitude).orElse(null);
+        this.longitude = station.getCoordinate().map(Coordinate::getLongitude).orElse(null);
     }
 
     public Long getId() {
@@ -26,4 +31,12 @@ public class StationResponse {
     public String getName() {
         return name;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
 }
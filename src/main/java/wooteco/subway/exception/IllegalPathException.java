@@ -0,0 +1,8 @@
+package wooteco.subway.exception;
+
+public class IllegalPathException extends IllegalArgumentException {
+
+    public IllegalPathException(String message) {
+        super(message);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.LineDao;
@@ -20,6 +21,8 @@ import wooteco.subway.dto.LineRequest;
 import wooteco.subway.dto.LineResponse;
 import wooteco.subway.dto.StationResponse;
 import wooteco.subway.exception.NotExistException;
+import wooteco.subway.service.event.LineRemovedEvent;
+import wooteco.subway.service.event.NetworkChangedEvent;
 
 @Service
 @Transactional
@@ -30,11 +33,14 @@ public class LineService {
     private final LineDao lineDao;
     private final SectionDao sectionDao;
     private final StationDao stationDao;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LineService(LineDao lineDao, SectionDao sectionDao, StationDao stationDao) {
+    public LineService(LineDao lineDao, SectionDao sectionDao, StationDao stationDao,
+                       ApplicationEventPublisher eventPublisher) {
         this.lineDao = lineDao;
         this.sectionDao = sectionDao;
         this.stationDao = stationDao;
+        this.eventPublisher = eventPublisher;
     }
 
     public LineResponse save(LineRequest request) {
@@ -45,6 +51,7 @@ public class LineService {
         final Station downStation = findStationById(request.getDownStationId());
         final Section section = new Section(savedLine, upStation, downStation, request.getDistance());
         sectionDao.save(section);
+        eventPublisher.publishEvent(new NetworkChangedEvent());
 
         return new LineResponse(savedLine, makeStationResponseList(request));
     }
@@ -71,12 +78,14 @@ public class LineService {
     }
 
     public void deleteById(Long id) {
+        final List<Section> removedSections = sectionDao.findByLineId(id);
         final int isDeleted = lineDao.deleteById(id);
 
         if (isDeleted == DELETE_FAIL) {
             throw new NotExistException("존재하지 않는 노선입니다.");
         }
         sectionDao.deleteByLineId(id);
+        eventPublisher.publishEvent(new LineRemovedEvent(removedSections));
     }
 
     private List<StationResponse> makeStationResponseList(LineRequest request) {
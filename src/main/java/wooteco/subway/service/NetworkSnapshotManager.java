@@ -0,0 +1,84 @@
+package wooteco.subway.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.domain.path.NetworkSnapshot;
+import wooteco.subway.domain.path.PathCache;
+import wooteco.subway.domain.path.PathGenerator;
+import wooteco.subway.service.event.NetworkChangedEvent;
+import wooteco.subway.service.event.NetworkPatchEvent;
+
+@Component
+public class NetworkSnapshotManager {
+
+    private static final long INITIAL_VERSION = 1L;
+
+    private final StationDao stationDao;
+    private final SectionDao sectionDao;
+    private final PathGenerator pathGenerator;
+    private final PathCache pathCache;
+    private final AtomicReference<NetworkSnapshot> snapshot = new AtomicReference<>();
+
+    public NetworkSnapshotManager(StationDao stationDao, SectionDao sectionDao, PathGenerator pathGenerator,
+                                  PathCache pathCache) {
+        this.stationDao = stationDao;
+        this.sectionDao = sectionDao;
+        this.pathGenerator = pathGenerator;
+        this.pathCache = pathCache;
+    }
+
+    public NetworkSnapshot getSnapshot() {
+        final NetworkSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        return initialize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onNetworkPatched(NetworkPatchEvent event) {
+        final NetworkSnapshot current = snapshot.get();
+        if (current == null) {
+            return;
+        }
+        current.apply(event.getPatch(), current.getVersion() + 1)
+                .ifPresentOrElse(next -> publish(current, next, event), this::refresh);
+    }
+
+    private void publish(NetworkSnapshot current, NetworkSnapshot next, NetworkPatchEvent event) {
+        pathCache.migrate(current.getVersion(), next, event.getPatch());
+        snapshot.set(next);
+    }
+
+    public synchronized NetworkSnapshot refresh() {
+        final NetworkSnapshot next = new NetworkSnapshot(nextVersion(), stationDao.findAll(), sectionDao.findAll(),
+                pathGenerator);
+        pathCache.invalidateAll(next.getVersion());
+        snapshot.set(next);
+        return next;
+    }
+
+    private synchronized NetworkSnapshot initialize() {
+        final NetworkSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        return refresh();
+    }
+
+    private long nextVersion() {
+        final NetworkSnapshot current = snapshot.get();
+        if (current == null) {
+            return INITIAL_VERSION;
+        }
+        return current.getVersion() + 1;
+    }
+}
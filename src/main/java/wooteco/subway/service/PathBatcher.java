@@ -0,0 +1,214 @@
+package wooteco.subway.service;
+
+import static java.util.stream.Collectors.groupingBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.NetworkSnapshot;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.domain.path.ShortestPathTree;
+
+@Component
+public class PathBatcher {
+
+    private static final long NO_BATCHING = 0L;
+    private static final int SINGLE_QUERY = 1;
+    private static final String SHUTDOWN_MESSAGE = "경로 탐색기가 종료되었습니다.";
+
+    private final long windowMicros;
+    private final long timeoutMillis;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService searchExecutor;
+    private final Queue<PendingQuery> pendingQueries = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final LongAdder queryCount = new LongAdder();
+    private final LongAdder searchCount = new LongAdder();
+
+    public PathBatcher(@Value("${subway.path.batch.window-micros:0}") long windowMicros,
+                       @Value("${subway.path.batch.timeout-millis:3000}") long timeoutMillis,
+                       @Value("${subway.path.batch.search-threads:4}") int searchThreads) {
+        if (windowMicros < NO_BATCHING) {
+            throw new IllegalArgumentException("배치 대기 시간은 0 이상이어야 합니다.");
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("배치 응답 제한 시간은 0보다 커야 합니다.");
+        }
+        if (searchThreads <= 0) {
+            throw new IllegalArgumentException("배치 탐색 스레드 수는 0보다 커야 합니다.");
+        }
+        this.windowMicros = windowMicros;
+        this.timeoutMillis = timeoutMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "path-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.searchExecutor = Executors.newFixedThreadPool(searchThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "path-batch-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path findPath(NetworkSnapshot snapshot, Station sourceStation, Station targetStation) {
+        queryCount.increment();
+        if (windowMicros == NO_BATCHING) {
+            searchCount.increment();
+            return snapshot.findPath(sourceStation, targetStation);
+        }
+
+        final PendingQuery query = new PendingQuery(snapshot, sourceStation, targetStation);
+        pendingQueries.add(query);
+        if (flushScheduled.compareAndSet(false, true)) {
+            schedule();
+        }
+        return await(query.result);
+    }
+
+    private void schedule() {
+        try {
+            scheduler.schedule(this::flush, windowMicros, TimeUnit.MICROSECONDS);
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+            completeRemaining(drainPendingQueries(), new IllegalStateException(SHUTDOWN_MESSAGE, e));
+        }
+    }
+
+    private Path await(CompletableFuture<Path> result) {
+        try {
+            return result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new IllegalStateException("경로 탐색 대기 시간이 초과되었습니다.", e.getCause());
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        final List<PendingQuery> queries = drainPendingQueries();
+        try {
+            final Map<NetworkSnapshot, Map<Station, List<PendingQuery>>> groups = queries.stream()
+                    .collect(groupingBy(pending -> pending.snapshot, groupingBy(pending -> pending.sourceStation)));
+            groups.values().stream()
+                    .flatMap(groupsBySource -> groupsBySource.values().stream())
+                    .forEach(this::submit);
+        } catch (Throwable e) {
+            completeRemaining(queries, e);
+        }
+    }
+
+    private List<PendingQuery> drainPendingQueries() {
+        final List<PendingQuery> queries = new ArrayList<>();
+        PendingQuery query;
+        while ((query = pendingQueries.poll()) != null) {
+            queries.add(query);
+        }
+        return queries;
+    }
+
+    private void submit(List<PendingQuery> group) {
+        try {
+            searchExecutor.execute(() -> search(group));
+        } catch (RejectedExecutionException e) {
+            completeRemaining(group, new IllegalStateException(SHUTDOWN_MESSAGE, e));
+        }
+    }
+
+    private void search(List<PendingQuery> group) {
+        searchCount.increment();
+        Throwable failure = null;
+        try {
+            searchFromSource(group);
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            completeRemaining(group, failure);
+        }
+    }
+
+    private void completeRemaining(List<PendingQuery> queries, Throwable failure) {
+        final Throwable cause = failure != null ? failure : new IllegalStateException("경로 탐색이 완료되지 않았습니다.");
+        queries.forEach(query -> query.result.completeExceptionally(cause));
+    }
+
+    private void searchFromSource(List<PendingQuery> group) {
+        final PendingQuery first = group.get(0);
+        final RoutingGraph graph = first.snapshot.getRoutingGraph();
+        if (group.size() == SINGLE_QUERY || !graph.contains(first.sourceStation)) {
+            group.forEach(query -> complete(query, () -> query.snapshot.findPath(query.sourceStation,
+                    query.targetStation)));
+            return;
+        }
+
+        final ShortestPathTree tree = first.snapshot.createShortestPathTree(first.sourceStation);
+        group.forEach(query -> complete(query, () -> pathTo(tree, query)));
+    }
+
+    private Path pathTo(ShortestPathTree tree, PendingQuery query) {
+        if (tree.isReachable(query.targetStation)) {
+            return tree.pathTo(query.targetStation);
+        }
+        return query.snapshot.findPath(query.sourceStation, query.targetStation);
+    }
+
+    private void complete(PendingQuery query, Supplier<Path> search) {
+        try {
+            query.result.complete(search.get());
+        } catch (Throwable e) {
+            query.result.completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        searchExecutor.shutdown();
+        completeRemaining(drainPendingQueries(), new IllegalStateException(SHUTDOWN_MESSAGE));
+    }
+
+    public long getQueryCount() {
+        return queryCount.sum();
+    }
+
+    public long getSearchCount() {
+        return searchCount.sum();
+    }
+
+    private static class PendingQuery {
+
+        private final NetworkSnapshot snapshot;
+        private final Station sourceStation;
+        private final Station targetStation;
+        private final CompletableFuture<Path> result = new CompletableFuture<>();
+
+        private PendingQuery(NetworkSnapshot snapshot, Station sourceStation, Station targetStation) {
+            this.snapshot = snapshot;
+            this.sourceStation = sourceStation;
+            this.targetStation = targetStation;
+        }
+    }
+}
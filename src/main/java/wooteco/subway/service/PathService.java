@@ -1,45 +1,214 @@
 package wooteco.subway.service;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import wooteco.subway.dao.LineDao;
-import wooteco.subway.dao.SectionDao;
-import wooteco.subway.dao.StationDao;
-import wooteco.subway.domain.Line;
 import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Station;
 import wooteco.subway.domain.fare.Fare;
+import wooteco.subway.domain.path.ApproximateDistance;
+import wooteco.subway.domain.path.CachedPath;
+import wooteco.subway.domain.path.DistanceOracle;
+import wooteco.subway.domain.path.HubLabels;
+import wooteco.subway.domain.path.NetworkSnapshot;
 import wooteco.subway.domain.path.Path;
-import wooteco.subway.domain.path.PathGenerator;
+import wooteco.subway.domain.path.PathCache;
+import wooteco.subway.domain.path.PathMode;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.domain.path.ShortestPathTree;
+import wooteco.subway.domain.path.SourceTreeCache;
+import wooteco.subway.dto.ApproximatePathMatrixResponse;
+import wooteco.subway.dto.FareQuoteResponse;
+import wooteco.subway.dto.MultiPathResponse;
+import wooteco.subway.dto.HubLabelResponse;
+import wooteco.subway.dto.PathMatrixResponse;
 import wooteco.subway.dto.PathResponse;
+import wooteco.subway.dto.PathStatsResponse;
+import wooteco.subway.dto.ReachableStationResponse;
 import wooteco.subway.dto.StationResponse;
 import wooteco.subway.exception.NotExistException;
 
 @Service
-@Transactional
 public class PathService {
 
     private static final int NO_EXTRA_FARE = 0;
+    private static final int SINGLE_PATH = 1;
+    private static final int FEWEST_TRANSFERS_FIRST = 0;
+    private static final int NO_LIMIT = Integer.MAX_VALUE - 1;
 
-    private final StationDao stationDao;
-    private final SectionDao sectionDao;
-    private final LineDao lineDao;
-    private final PathGenerator pathGenerator;
+    private final NetworkSnapshotManager networkSnapshotManager;
+    private final PathCache pathCache;
+    private final SourceTreeCache sourceTreeCache;
+    private final PathBatcher pathBatcher;
+    private final SingleFlight<List<Long>, CachedPath> pathComputations = new SingleFlight<>();
+    private final int transferPenalty;
+    private final int approximateLevel;
+    private final ExecutorService treeExecutor;
 
-    public PathService(StationDao stationDao, SectionDao sectionDao, LineDao lineDao, PathGenerator pathGenerator) {
-        this.stationDao = stationDao;
-        this.sectionDao = sectionDao;
-        this.lineDao = lineDao;
-        this.pathGenerator = pathGenerator;
+    public PathService(NetworkSnapshotManager networkSnapshotManager, PathCache pathCache,
+                       SourceTreeCache sourceTreeCache, PathBatcher pathBatcher,
+                       @Value("${subway.path.transfer-penalty:0}") int transferPenalty,
+                       @Value("${subway.path.approximate.level:3}") int approximateLevel,
+                       @Value("${subway.path.matrix.threads:4}") int matrixThreads) {
+        if (matrixThreads <= 0) {
+            throw new IllegalArgumentException("경로 행렬 탐색 스레드 수는 0보다 커야 합니다.");
+        }
+        this.networkSnapshotManager = networkSnapshotManager;
+        this.pathCache = pathCache;
+        this.sourceTreeCache = sourceTreeCache;
+        this.pathBatcher = pathBatcher;
+        this.transferPenalty = transferPenalty;
+        this.approximateLevel = approximateLevel;
+        this.treeExecutor = Executors.newFixedThreadPool(matrixThreads, runnable -> {
+            final Thread thread = new Thread(runnable, "path-matrix");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        treeExecutor.shutdownNow();
     }
 
-    @Transactional(readOnly = true)
     public PathResponse findPath(Long sourceId, Long targetId, Integer age) {
-        final Path path = generatePath(sourceId, targetId);
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final Station sourceStation = findStation(snapshot, sourceId);
+        final Station targetStation = findStation(snapshot, targetId);
+
+        return makePathResponse(findCachedPath(snapshot, sourceStation, targetStation), age);
+    }
+
+    private CachedPath findCachedPath(NetworkSnapshot snapshot, Station sourceStation, Station targetStation) {
+        sourceTreeCache.record(snapshot, sourceStation);
+        return pathCache.get(snapshot.getVersion(), sourceStation, targetStation)
+                .or(() -> sourceTreeCache.findPath(snapshot, sourceStation, targetStation).map(CachedPath::from))
+                .orElseGet(() -> pathComputations.execute(
+                        List.of(snapshot.getVersion(), sourceStation.getId(), targetStation.getId()),
+                        () -> computePath(snapshot, sourceStation, targetStation)));
+    }
+
+    public PathStatsResponse getStats() {
+        return new PathStatsResponse(pathCache.getHitCount(), pathCache.getMissCount(), pathCache.getInvalidatedCount(),
+                pathComputations.getExecutionCount(), pathComputations.getSharedCount(),
+                pathBatcher.getSearchCount(), sourceTreeCache.getHitCount(),
+                networkSnapshotManager.getSnapshot().getPreparationState().name());
+    }
+
+    private CachedPath computePath(NetworkSnapshot snapshot, Station sourceStation, Station targetStation) {
+        final CachedPath cachedPath = CachedPath.from(pathBatcher.findPath(snapshot, sourceStation, targetStation));
+        pathCache.put(snapshot.getVersion(), sourceStation, targetStation, cachedPath);
+        return cachedPath;
+    }
 
+    private PathResponse makePathResponse(CachedPath cachedPath, Integer age) {
+        final Fare fare = new Fare(cachedPath.getDistance(), cachedPath.getMaxExtraFare(), age);
+        return new PathResponse(makeStationResponse(cachedPath.getPath().getShortestPath()),
+                cachedPath.getDistance(), fare.calculate(), List.of());
+    }
+
+    public MultiPathResponse findPathBetweenComplexes(List<Long> sourceIds, List<Long> targetIds, Integer age) {
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final Path path = snapshot.findPath(findStations(snapshot, sourceIds), findStations(snapshot, targetIds));
+        final List<Station> stations = path.getShortestPath();
+        return new MultiPathResponse(stations.get(0).getId(), stations.get(stations.size() - 1).getId(),
+                makePathResponse(path, age, List.of()));
+    }
+
+    public PathResponse findPath(Long sourceId, Long targetId, Integer age, Integer k, PathMode mode,
+                                 List<Long> viaIds) {
+        if (viaIds != null && !viaIds.isEmpty()) {
+            validateViaPath(k, mode);
+            return findViaPath(sourceId, targetId, age, viaIds);
+        }
+        if (mode == PathMode.MIN_TRANSFER || mode == PathMode.MIN_FARE) {
+            validateSinglePath(k);
+        }
+        if (mode == PathMode.MIN_TRANSFER) {
+            return findFewestTransfersPath(sourceId, targetId, age);
+        }
+        if (mode == PathMode.MIN_FARE) {
+            return findCheapestPath(sourceId, targetId, age);
+        }
+        if (k == null || k == SINGLE_PATH) {
+            return findPath(sourceId, targetId, age);
+        }
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final Station sourceStation = findStation(snapshot, sourceId);
+        final Station targetStation = findStation(snapshot, targetId);
+        final List<Path> paths = snapshot.findPaths(sourceStation, targetStation, k);
+
+        final List<PathResponse> alternatives = paths.subList(1, paths.size()).stream()
+                .map(path -> makePathResponse(path, age, List.of()))
+                .collect(toList());
+        return makePathResponse(paths.get(0), age, alternatives);
+    }
+
+    private void validateSinglePath(Integer k) {
+        if (k != null && k != SINGLE_PATH) {
+            throw new IllegalArgumentException("환승 최소, 요금 최소 경로는 대안 경로와 함께 조회할 수 없습니다.");
+        }
+    }
+
+    private void validateViaPath(Integer k, PathMode mode) {
+        if (mode != null && mode != PathMode.DISTANCE) {
+            throw new IllegalArgumentException("경유역이 있는 경로는 최단 거리로만 조회할 수 있습니다.");
+        }
+        if (k != null && k != SINGLE_PATH) {
+            throw new IllegalArgumentException("경유역이 있는 경로는 대안 경로와 함께 조회할 수 없습니다.");
+        }
+    }
+
+    private PathResponse findViaPath(Long sourceId, Long targetId, Integer age, List<Long> viaIds) {
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final List<Station> stations = new ArrayList<>();
+        stations.add(findStation(snapshot, sourceId));
+        stations.addAll(findStations(snapshot, viaIds));
+        stations.add(findStation(snapshot, targetId));
+
+        Path path = findCachedPath(snapshot, stations.get(0), stations.get(1)).getPath();
+        for (int index = 1; index + 1 < stations.size(); index++) {
+            path = path.append(findCachedPath(snapshot, stations.get(index), stations.get(index + 1)).getPath());
+        }
+        return makePathResponse(path, age, List.of());
+    }
+
+    private PathResponse findFewestTransfersPath(Long sourceId, Long targetId, Integer age) {
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final Station sourceStation = findStation(snapshot, sourceId);
+        final Station targetStation = findStation(snapshot, targetId);
+        if (transferPenalty == FEWEST_TRANSFERS_FIRST) {
+            return makePathResponse(snapshot.findFewestTransfersPath(sourceStation, targetStation), age, List.of());
+        }
+        final Path path = snapshot.findFewestTransfersPath(sourceStation, targetStation, transferPenalty);
+        return makePathResponse(path, age, List.of());
+    }
+
+    private PathResponse findCheapestPath(Long sourceId, Long targetId, Integer age) {
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final Station sourceStation = findStation(snapshot, sourceId);
+        final Station targetStation = findStation(snapshot, targetId);
+
+        final Path path = snapshot.findCheapestPath(sourceStation, targetStation,
+                (distance, extraFare) -> new Fare(distance, extraFare, age).calculate());
+        return makePathResponse(path, age, List.of());
+    }
+
+    private PathResponse makePathResponse(Path path, Integer age, List<PathResponse> alternatives) {
         final List<Station> shortestPath = path.getShortestPath();
         final List<Section> shortestEdge = path.getShortestEdge();
 
@@ -47,15 +216,151 @@ public class PathService {
         final int distance = path.getShortestPathWeight();
         final Fare fare = new Fare(distance, extraCost, age);
 
-        return new PathResponse(makeStationResponse(shortestPath), distance, fare.calculate());
+        return new PathResponse(makeStationResponse(shortestPath), distance, fare.calculate(), alternatives);
     }
 
-    private Path generatePath(Long sourceId, Long targetId) {
-        final List<Section> sections = sectionDao.findAll();
-        final Station sourceStation = findStation(sourceId);
-        final Station targetStation = findStation(targetId);
+    public PathMatrixResponse findPathMatrix(List<Long> sourceIds, List<Long> targetIds, Integer age) {
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final List<Station> targets = findStations(snapshot, targetIds);
+        final Map<Long, ShortestPathTree> trees = createShortestPathTrees(snapshot, sourceIds);
+
+        final List<List<Integer>> distances = sourceIds.stream()
+                .map(sourceId -> makeRow(trees.get(sourceId), targets, ShortestPathTree::distanceTo))
+                .collect(toList());
+        final List<List<Integer>> fares = sourceIds.stream()
+                .map(sourceId -> makeRow(trees.get(sourceId), targets,
+                        (tree, target) -> calculateFare(tree, target, age)))
+                .collect(toList());
 
-        return pathGenerator.generatePath(sections, sourceStation, targetStation);
+        return new PathMatrixResponse(sourceIds, targetIds, distances, fares);
+    }
+
+    public ApproximatePathMatrixResponse findApproximatePathMatrix(List<Long> sourceIds, List<Long> targetIds) {
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final List<Station> sources = findStations(snapshot, sourceIds);
+        final List<Station> targets = findStations(snapshot, targetIds);
+        final DistanceOracle distanceOracle = snapshot.getDistanceOracle(approximateLevel);
+
+        final List<List<ApproximateDistance>> rows = sources.stream()
+                .map(source -> targets.stream()
+                        .map(target -> distanceOracle.estimate(source, target).orElse(null))
+                        .collect(toList()))
+                .collect(toList());
+        return new ApproximatePathMatrixResponse(sourceIds, targetIds, distanceOracle.getStretch(),
+                toValues(rows, ApproximateDistance::getEstimate), toValues(rows, ApproximateDistance::getUpperBound));
+    }
+
+    private List<List<Integer>> toValues(List<List<ApproximateDistance>> rows,
+                                         Function<ApproximateDistance, Integer> value) {
+        return rows.stream()
+                .map(row -> row.stream()
+                        .map(distance -> Optional.ofNullable(distance).map(value).orElse(null))
+                        .collect(toList()))
+                .collect(toList());
+    }
+
+    public FareQuoteResponse quoteFare(Long sourceId, Long targetId, Integer age) {
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final Station sourceStation = findStation(snapshot, sourceId);
+        final Station targetStation = findStation(snapshot, targetId);
+
+        final HubLabels hubLabels = snapshot.getHubLabels();
+        final int distance = hubLabels.distance(sourceStation, targetStation);
+        final Fare fare = new Fare(distance, hubLabels.maxExtraFare(sourceStation, targetStation), age);
+        return new FareQuoteResponse(sourceId, targetId, distance, fare.calculate());
+    }
+
+    public HubLabelResponse getHubLabelStats() {
+        final HubLabels hubLabels = networkSnapshotManager.getSnapshot().getHubLabels();
+        return new HubLabelResponse(hubLabels.getStationCount(), hubLabels.getLabelCount(),
+                hubLabels.getMaxLabelSize(), hubLabels.getBuildMillis());
+    }
+
+    public List<ReachableStationResponse> findReachableStations(Long sourceId, Integer age, Integer maxDistance,
+                                                                Integer maxFare) {
+        if (maxDistance == null && maxFare == null) {
+            throw new IllegalArgumentException("최대 거리나 최대 요금 중 하나 이상을 입력해주세요.");
+        }
+        final NetworkSnapshot snapshot = networkSnapshotManager.getSnapshot();
+        final Station sourceStation = findStation(snapshot, sourceId);
+        final RoutingGraph routingGraph = snapshot.getRoutingGraph();
+        if (!routingGraph.contains(sourceStation)) {
+            return List.of();
+        }
+
+        final int distanceLimit = Math.min(toDistanceLimit(maxDistance), toDistanceLimit(snapshot, maxFare, age));
+        final ShortestPathTree tree = ShortestPathTree.within(routingGraph, sourceStation, distanceLimit);
+        return tree.getReachableStations().stream()
+                .map(station -> new ReachableStationResponse(station, tree.distanceTo(station),
+                        calculateFare(tree, station, age)))
+                .filter(response -> maxFare == null || response.getFare() <= maxFare)
+                .collect(toList());
+    }
+
+    private int toDistanceLimit(Integer maxDistance) {
+        if (maxDistance == null) {
+            return NO_LIMIT;
+        }
+        return maxDistance;
+    }
+
+    private int toDistanceLimit(NetworkSnapshot snapshot, Integer maxFare, Integer age) {
+        if (maxFare == null) {
+            return NO_LIMIT;
+        }
+        final int totalDistance = snapshot.getSections().stream()
+                .mapToInt(Section::getDistance)
+                .sum();
+        return Fare.maxDistanceWithin(maxFare, age, totalDistance);
+    }
+
+    private Map<Long, ShortestPathTree> createShortestPathTrees(NetworkSnapshot snapshot, List<Long> sourceIds) {
+        final Map<Long, CompletableFuture<ShortestPathTree>> trees = new LinkedHashMap<>();
+        for (Station station : findStations(snapshot, sourceIds)) {
+            if (snapshot.getRoutingGraph().contains(station) && !trees.containsKey(station.getId())) {
+                trees.put(station.getId(), CompletableFuture.supplyAsync(
+                        () -> snapshot.createShortestPathTree(station), treeExecutor));
+            }
+        }
+        return trees.entrySet().stream()
+                .collect(toMap(Map.Entry::getKey, entry -> join(entry.getValue())));
+    }
+
+    private ShortestPathTree join(CompletableFuture<ShortestPathTree> tree) {
+        try {
+            return tree.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private List<Integer> makeRow(ShortestPathTree tree, List<Station> targets,
+                                  BiFunction<ShortestPathTree, Station, Integer> value) {
+        return targets.stream()
+                .map(target -> valueOrNull(tree, target, value))
+                .collect(toList());
+    }
+
+    private Integer valueOrNull(ShortestPathTree tree, Station target,
+                                BiFunction<ShortestPathTree, Station, Integer> value) {
+        if (tree == null || !tree.isReachable(target)) {
+            return null;
+        }
+        return value.apply(tree, target);
+    }
+
+    private int calculateFare(ShortestPathTree tree, Station target, Integer age) {
+        final Fare fare = new Fare(tree.distanceTo(target), tree.maxExtraFareTo(target), age);
+        return fare.calculate();
+    }
+
+    private List<Station> findStations(NetworkSnapshot snapshot, List<Long> ids) {
+        return ids.stream()
+                .map(id -> findStation(snapshot, id))
+                .collect(toList());
     }
 
     private List<StationResponse> makeStationResponse(List<Station> shortestPath) {
@@ -65,23 +370,14 @@ public class PathService {
     }
 
     private int getMaxExtraFareWithLine(List<Section> sections) {
-        final List<Long> lineIds = getLineIds(sections);
-        final List<Line> lines = lineDao.findAllByIds(lineIds);
-
-        return lines.stream()
-                .mapToInt(Line::getExtraFare)
+        return sections.stream()
+                .mapToInt(section -> section.getLine().getExtraFare())
                 .max()
                 .orElse(NO_EXTRA_FARE);
     }
 
-    private List<Long> getLineIds(List<Section> sections) {
-        return sections.stream()
-                .map(section -> section.getLine().getId())
-                .collect(toList());
-    }
-
-    private Station findStation(Long id) {
-        return stationDao.findById(id)
+    private Station findStation(NetworkSnapshot snapshot, Long id) {
+        return snapshot.findStation(id)
                 .orElseThrow(() -> new NotExistException("찾으려는 역이 존재하지 않습니다."));
     }
 }
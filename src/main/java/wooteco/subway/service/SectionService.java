@@ -1,6 +1,9 @@
 package wooteco.subway.service;
 
+import static java.util.stream.Collectors.toList;
+
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.LineDao;
@@ -12,6 +15,8 @@ import wooteco.subway.domain.Sections;
 import wooteco.subway.domain.Station;
 import wooteco.subway.dto.SectionRequest;
 import wooteco.subway.exception.NotExistException;
+import wooteco.subway.service.event.SectionMergeEvent;
+import wooteco.subway.service.event.SectionSplitEvent;
 
 @Service
 @Transactional
@@ -20,19 +25,25 @@ public class SectionService {
     private final SectionDao sectionDao;
     private final LineDao lineDao;
     private final StationDao stationDao;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SectionService(SectionDao sectionDao, LineDao lineDao, StationDao stationDao) {
+    public SectionService(SectionDao sectionDao, LineDao lineDao, StationDao stationDao,
+                          ApplicationEventPublisher eventPublisher) {
         this.sectionDao = sectionDao;
         this.lineDao = lineDao;
         this.stationDao = stationDao;
+        this.eventPublisher = eventPublisher;
     }
 
     public void save(Long lineId, SectionRequest request) {
-        final Sections sections = new Sections(sectionDao.findByLineId(lineId));
+        final List<Section> existingSections = sectionDao.findByLineId(lineId);
+        final Sections sections = new Sections(existingSections);
         final Section section = createSection(lineId, request);
 
         List<Section> result = sections.add(section);
-        updateSection(lineId, result);
+        final List<Section> removedSections = findMissingSections(existingSections, result);
+        final List<Section> addedSections = updateSection(removedSections, findMissingSections(result, existingSections));
+        eventPublisher.publishEvent(new SectionSplitEvent(removedSections, addedSections));
     }
 
     private Section createSection(Long lineId, SectionRequest request) {
@@ -44,16 +55,34 @@ public class SectionService {
     }
 
     public void delete(Long lineId, Long stationId) {
-        final Sections sections = new Sections(sectionDao.findByLineId(lineId));
+        final List<Section> existingSections = sectionDao.findByLineId(lineId);
+        final Sections sections = new Sections(existingSections);
         final Station station = findStation(stationId);
 
         List<Section> result = sections.delete(station);
-        updateSection(lineId, result);
+        final List<Section> removedSections = findMissingSections(existingSections, result);
+        final List<Section> addedSections = updateSection(removedSections, findMissingSections(result, existingSections));
+        eventPublisher.publishEvent(new SectionMergeEvent(removedSections, addedSections));
+    }
+
+    private List<Section> findMissingSections(List<Section> sections, List<Section> others) {
+        return sections.stream()
+                .filter(section -> others.stream().noneMatch(other -> isSamePersistedSection(section, other)))
+                .collect(toList());
+    }
+
+    private boolean isSamePersistedSection(Section section, Section other) {
+        return section.getId() != null && section.getId().equals(other.getId())
+                && section.getUpStation().equals(other.getUpStation())
+                && section.getDownStation().equals(other.getDownStation())
+                && section.getDistance() == other.getDistance();
     }
 
-    private void updateSection(Long lineId, List<Section> sections) {
-        sectionDao.deleteByLineId(lineId);
-        sectionDao.saveAll(sections);
+    private List<Section> updateSection(List<Section> removedSections, List<Section> addedSections) {
+        removedSections.forEach(section -> sectionDao.deleteById(section.getId()));
+        return addedSections.stream()
+                .map(sectionDao::save)
+                .collect(toList());
     }
 
     private Station findStation(Long id) {
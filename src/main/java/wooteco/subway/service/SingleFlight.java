@@ -0,0 +1,55 @@
+package wooteco.subway.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder sharedCount = new LongAdder();
+
+    public V execute(K key, Supplier<V> computation) {
+        final CompletableFuture<V> call = new CompletableFuture<>();
+        final CompletableFuture<V> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+        if (inFlightCall != null) {
+            sharedCount.increment();
+            return await(inFlightCall);
+        }
+
+        executionCount.increment();
+        try {
+            final V value = computation.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCalls.remove(key, call);
+        }
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+}
@@ -5,15 +5,19 @@ import static java.util.stream.Collectors.toUnmodifiableList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.SectionDao;
 import wooteco.subway.dao.StationDao;
 import wooteco.subway.domain.Section;
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.vo.Coordinate;
 import wooteco.subway.dto.StationRequest;
 import wooteco.subway.dto.StationResponse;
 import wooteco.subway.exception.NotExistException;
+import wooteco.subway.service.event.StationAddedEvent;
+import wooteco.subway.service.event.StationRemovedEvent;
 
 @Service
 @Transactional
@@ -23,24 +27,37 @@ public class StationService {
 
     private final StationDao stationDao;
     private final SectionDao sectionDao;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationDao stationDao, SectionDao sectionDao) {
+    public StationService(StationDao stationDao, SectionDao sectionDao, ApplicationEventPublisher eventPublisher) {
         this.stationDao = stationDao;
         this.sectionDao = sectionDao;
+        this.eventPublisher = eventPublisher;
     }
 
     public StationResponse save(StationRequest request) {
-        final Station station = new Station(request.getName());
+        final Station station = new Station(request.getName(), toCoordinate(request));
         final Station savedStation = stationDao.save(station);
+        eventPublisher.publishEvent(new StationAddedEvent(savedStation));
 
         return new StationResponse(savedStation);
     }
 
+    private Coordinate toCoordinate(StationRequest request) {
+        if (request.getLatitude() == null && request.getLongitude() == null) {
+            return null;
+        }
+        if (request.getLatitude() == null || request.getLongitude() == null) {
+            throw new IllegalArgumentException("위도와 경도는 함께 입력해주세요.");
+        }
+        return Coordinate.of(request.getLatitude(), request.getLongitude());
+    }
+
     @Transactional(readOnly = true)
     public List<StationResponse> findAll() {
         return stationDao.findAll()
                 .stream()
-                .map(station -> new StationResponse(station.getId(), station.getName()))
+                .map(StationResponse::new)
                 .collect(toUnmodifiableList());
     }
 
@@ -55,6 +72,7 @@ public class StationService {
         if (isDeleted == DELETE_FAIL) {
             throw new NotExistException("존재하지 않는 지하철 역입니다.");
         }
+        eventPublisher.publishEvent(new StationRemovedEvent(id));
     }
 
     private void getStationIds(Set<Long> stationIds, List<Section> sections) {
@@ -0,0 +1,12 @@
+package wooteco.subway.service.event;
+
+import java.util.List;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.path.NetworkPatch;
+
+public class LineRemovedEvent extends NetworkPatchEvent {
+
+    public LineRemovedEvent(List<Section> removedSections) {
+        super(NetworkPatch.ofSections(removedSections, List.of()));
+    }
+}
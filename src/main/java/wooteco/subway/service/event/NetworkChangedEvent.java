@@ -0,0 +1,4 @@
+package wooteco.subway.service.event;
+
+public class NetworkChangedEvent {
+}
@@ -0,0 +1,16 @@
+package wooteco.subway.service.event;
+
+import wooteco.subway.domain.path.NetworkPatch;
+
+public abstract class NetworkPatchEvent {
+
+    private final NetworkPatch patch;
+
+    protected NetworkPatchEvent(NetworkPatch patch) {
+        this.patch = patch;
+    }
+
+    public NetworkPatch getPatch() {
+        return patch;
+    }
+}
@@ -0,0 +1,12 @@
+package wooteco.subway.service.event;
+
+import java.util.List;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.path.NetworkPatch;
+
+public class SectionMergeEvent extends NetworkPatchEvent {
+
+    public SectionMergeEvent(List<Section> removedSections, List<Section> addedSections) {
+        super(NetworkPatch.ofSections(removedSections, addedSections));
+    }
+}
@@ -0,0 +1,11 @@
+package wooteco.subway.service.event;
+
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.NetworkPatch;
+
+public class StationAddedEvent extends NetworkPatchEvent {
+
+    public StationAddedEvent(Station station) {
+        super(NetworkPatch.ofAddedStation(station));
+    }
+}
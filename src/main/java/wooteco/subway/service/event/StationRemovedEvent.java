@@ -0,0 +1,10 @@
+package wooteco.subway.service.event;
+
+import wooteco.subway.domain.path.NetworkPatch;
+
+public class StationRemovedEvent extends NetworkPatchEvent {
+
+    public StationRemovedEvent(Long stationId) {
+        super(NetworkPatch.ofRemovedStation(stationId));
+    }
+}
@@ -1,12 +1,27 @@
 package wooteco.subway.ui;
 
+import java.util.List;
 import javax.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import wooteco.subway.dto.ApproximatePathMatrixRequest;
+import wooteco.subway.dto.ApproximatePathMatrixResponse;
+import wooteco.subway.dto.FareQuoteRequest;
+import wooteco.subway.dto.FareQuoteResponse;
+import wooteco.subway.dto.HubLabelResponse;
+import wooteco.subway.dto.MultiPathRequest;
+import wooteco.subway.dto.MultiPathResponse;
+import wooteco.subway.dto.PathMatrixRequest;
+import wooteco.subway.dto.PathMatrixResponse;
 import wooteco.subway.dto.PathRequest;
 import wooteco.subway.dto.PathResponse;
+import wooteco.subway.dto.PathStatsResponse;
+import wooteco.subway.dto.ReachableStationRequest;
+import wooteco.subway.dto.ReachableStationResponse;
 import wooteco.subway.service.PathService;
 
 @RestController
@@ -22,7 +37,54 @@ public class PathController {
     @GetMapping
     public ResponseEntity<PathResponse> findPath(@Valid PathRequest pathRequest) {
         final PathResponse response = pathService.findPath(pathRequest.getSource(), pathRequest.getTarget(),
-                pathRequest.getAge());
+                pathRequest.getAge(), pathRequest.getK(), pathRequest.getMode(), pathRequest.getVia());
         return ResponseEntity.ok().body(response);
     }
+
+    @GetMapping("/complexes")
+    public ResponseEntity<MultiPathResponse> findPathBetweenComplexes(@Valid MultiPathRequest request) {
+        final MultiPathResponse response = pathService.findPathBetweenComplexes(request.getSources(),
+                request.getTargets(), request.getAge());
+        return ResponseEntity.ok().body(response);
+    }
+
+    @PostMapping("/matrix")
+    public ResponseEntity<PathMatrixResponse> findPathMatrix(@RequestBody @Valid PathMatrixRequest request) {
+        final PathMatrixResponse response = pathService.findPathMatrix(request.getSources(), request.getTargets(),
+                request.getAge());
+        return ResponseEntity.ok().body(response);
+    }
+
+    @PostMapping("/matrix/approximate")
+    public ResponseEntity<ApproximatePathMatrixResponse> findApproximatePathMatrix(
+            @RequestBody @Valid ApproximatePathMatrixRequest request) {
+        final ApproximatePathMatrixResponse response = pathService.findApproximatePathMatrix(request.getSources(),
+                request.getTargets());
+        return ResponseEntity.ok().body(response);
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<List<ReachableStationResponse>> findReachableStations(
+            @Valid ReachableStationRequest request) {
+        final List<ReachableStationResponse> responses = pathService.findReachableStations(request.getSource(),
+                request.getAge(), request.getMaxDistance(), request.getMaxFare());
+        return ResponseEntity.ok().body(responses);
+    }
+
+    @GetMapping("/fare-quote")
+    public ResponseEntity<FareQuoteResponse> quoteFare(@Valid FareQuoteRequest request) {
+        final FareQuoteResponse response = pathService.quoteFare(request.getSource(), request.getTarget(),
+                request.getAge());
+        return ResponseEntity.ok().body(response);
+    }
+
+    @GetMapping("/fare-quote/index")
+    public ResponseEntity<HubLabelResponse> findHubLabelStats() {
+        return ResponseEntity.ok().body(pathService.getHubLabelStats());
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<PathStatsResponse> findPathStats() {
+        return ResponseEntity.ok().body(pathService.getStats());
+    }
 }
@@ -6,6 +6,8 @@ create table if not exists STATION
 (
     id bigint auto_increment not null,
     name varchar(255) not null unique,
+    latitude double,
+    longitude double,
     primary key(id)
     );
 
@@ -5,14 +5,26 @@ import static org.assertj.core.api.Assertions.tuple;
 
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.http.HttpStatus;
+import wooteco.subway.dto.ApproximatePathMatrixRequest;
+import wooteco.subway.dto.ApproximatePathMatrixResponse;
+import wooteco.subway.dto.FareQuoteResponse;
+import wooteco.subway.dto.HubLabelResponse;
 import wooteco.subway.dto.LineRequest;
 import wooteco.subway.dto.LineResponse;
+import wooteco.subway.dto.MultiPathResponse;
+import wooteco.subway.dto.PathMatrixRequest;
+import wooteco.subway.dto.PathMatrixResponse;
 import wooteco.subway.dto.PathResponse;
+import wooteco.subway.dto.PathStatsResponse;
+import wooteco.subway.dto.ReachableStationResponse;
 import wooteco.subway.dto.SectionRequest;
 import wooteco.subway.dto.StationRequest;
 import wooteco.subway.dto.StationResponse;
@@ -52,6 +64,82 @@ public class PathAcceptanceTest extends AcceptanceTest {
                 );
     }
 
+    @DisplayName("k개의 경로를 요청하면 최단 경로와 함께 대안 경로의 거리와 요금을 조회할 수 있다.")
+    @Test
+    public void findAlternativePaths() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("양재역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 5, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId3, 5, 900);
+        requestLineWithExtraFare("3호선", stationId1, stationId3, 12, DEFAULT_FARE);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths?source=" + stationId1 + "&target=" + stationId3 + "&age=21&k=3");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final PathResponse pathResponse = response.jsonPath().getObject(".", PathResponse.class);
+        assertThat(pathResponse.getDistance()).isEqualTo(10);
+        assertThat(pathResponse.getFare()).isEqualTo(2150);
+        assertThat(pathResponse.getAlternatives()).hasSize(1)
+                .extracting("distance", "fare")
+                .containsExactly(tuple(12, 1350));
+    }
+
+    @DisplayName("환승 최소 경로를 요청하면 거리가 더 길더라도 환승이 적은 경로를 조회할 수 있다.")
+    @Test
+    public void findFewestTransfersPath() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("양재역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 5, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId3, 5, 900);
+        requestLineWithExtraFare("3호선", stationId1, stationId3, 12, DEFAULT_FARE);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths?source=" + stationId1 + "&target=" + stationId3 + "&age=21&mode=MIN_TRANSFER");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final PathResponse pathResponse = response.jsonPath().getObject(".", PathResponse.class);
+        assertThat(pathResponse.getStations()).extracting("id").containsExactly(stationId1, stationId3);
+        assertThat(pathResponse.getDistance()).isEqualTo(12);
+        assertThat(pathResponse.getFare()).isEqualTo(1350);
+    }
+
+    @DisplayName("요금 최소 경로를 요청하면 추가 요금이 있는 노선을 피한 더 저렴한 경로를 조회할 수 있다.")
+    @Test
+    public void findCheapestPath() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("양재역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 5, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId3, 5, 900);
+        requestLineWithExtraFare("3호선", stationId1, stationId3, 12, DEFAULT_FARE);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths?source=" + stationId1 + "&target=" + stationId3 + "&age=21&mode=MIN_FARE");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final PathResponse pathResponse = response.jsonPath().getObject(".", PathResponse.class);
+        assertThat(pathResponse.getDistance()).isEqualTo(12);
+        assertThat(pathResponse.getFare()).isEqualTo(1350);
+    }
+
     @DisplayName("10km 이내는 기본운임인 1250원을 부과한다.")
     @Test
     public void testFareWhen10km() {
@@ -138,6 +226,284 @@ public class PathAcceptanceTest extends AcceptanceTest {
         assertThat(pathResponse.getFare()).isEqualTo(1950);
     }
 
+    @DisplayName("경유역을 차례로 지나는 경로를 하나의 요금으로 조회할 수 있다.")
+    @Test
+    public void findPathWithVia() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("역삼역");
+        final Long stationId4 = extractStationIdFromName("양재역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("3호선", stationId2, stationId3, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId4, 10, 900);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths?source=" + stationId1 + "&target=" + stationId3 + "&via=" + stationId4 + "&age=21");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final PathResponse pathResponse = response.jsonPath().getObject(".", PathResponse.class);
+        assertThat(pathResponse.getStations()).extracting("id")
+                .containsExactly(stationId1, stationId2, stationId4, stationId2, stationId3);
+        assertThat(pathResponse.getDistance()).isEqualTo(40);
+        assertThat(pathResponse.getFare()).isEqualTo(2750);
+    }
+
+    @DisplayName("경유역이 있으면 대안 경로를 함께 조회할 수 없다.")
+    @Test
+    public void findPathWithViaAndAlternatives() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("역삼역");
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("3호선", stationId2, stationId3, 10, DEFAULT_FARE);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths?source=" + stationId1 + "&target=" + stationId3 + "&via=" + stationId2 + "&age=21&k=2");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("여러 출발역과 도착역 중 가장 가까운 쌍의 경로를 한 번에 조회할 수 있다.")
+    @Test
+    public void findPathBetweenComplexes() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("양재역");
+        final Long stationId4 = extractStationIdFromName("판교역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId3, 10, 900);
+        requestLineWithExtraFare("경강선", stationId3, stationId4, 30, DEFAULT_FARE);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths/complexes?sources=" + stationId1 + "," + stationId4 + "&targets=" + stationId3 + "&age=21");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final MultiPathResponse pathResponse = response.jsonPath().getObject(".", MultiPathResponse.class);
+        assertThat(pathResponse.getSource()).isEqualTo(stationId1);
+        assertThat(pathResponse.getTarget()).isEqualTo(stationId3);
+        assertThat(pathResponse.getPath().getDistance()).isEqualTo(20);
+        assertThat(pathResponse.getPath().getFare()).isEqualTo(2350);
+    }
+
+    @DisplayName("여러 출발역과 도착역 사이의 거리와 요금을 한 번에 조회할 수 있다.")
+    @Test
+    public void findPathMatrix() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("양재역");
+        final Long stationId4 = extractStationIdFromName("판교역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId3, 10, 900);
+        requestLineWithExtraFare("경강선", stationId4, extractStationIdFromName("이매역"), 5, DEFAULT_FARE);
+
+        final PathMatrixRequest request = new PathMatrixRequest(
+                List.of(stationId1, stationId2), List.of(stationId2, stationId3, stationId4), 21);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.post(request, "/paths/matrix");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final PathMatrixResponse matrixResponse = response.jsonPath().getObject(".", PathMatrixResponse.class);
+        assertThat(matrixResponse.getDistances()).containsExactly(
+                Arrays.asList(10, 20, null),
+                Arrays.asList(0, 10, null)
+        );
+        assertThat(matrixResponse.getFares()).containsExactly(
+                Arrays.asList(1250, 2350, null),
+                Arrays.asList(1250, 2150, null)
+        );
+    }
+
+    @DisplayName("존재하지 않는 역으로 거리와 요금을 조회하면 404를 반환한다.")
+    @Test
+    public void findPathMatrixWithNotExistStation() {
+        // given
+        final Long stationId = extractStationIdFromName("교대역");
+        final PathMatrixRequest request = new PathMatrixRequest(List.of(stationId), List.of(stationId + 100), 21);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.post(request, "/paths/matrix");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    @DisplayName("출발역을 100개보다 많이 보내 거리와 요금을 조회하면 400을 반환한다.")
+    @Test
+    public void findPathMatrixWithTooManySources() {
+        // given
+        final Long stationId = extractStationIdFromName("교대역");
+        final PathMatrixRequest request = new PathMatrixRequest(Collections.nCopies(101, stationId),
+                List.of(stationId), 21);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.post(request, "/paths/matrix");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("여러 출발역과 도착역 사이의 추정 거리와 보장된 상한을 한 번에 조회할 수 있다.")
+    @Test
+    public void findApproximatePathMatrix() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("양재역");
+        final Long stationId4 = extractStationIdFromName("판교역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId3, 10, 900);
+        requestLineWithExtraFare("경강선", stationId4, extractStationIdFromName("이매역"), 5, DEFAULT_FARE);
+
+        final ApproximatePathMatrixRequest request = new ApproximatePathMatrixRequest(
+                List.of(stationId1), List.of(stationId1, stationId3, stationId4));
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.post(request, "/paths/matrix/approximate");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final ApproximatePathMatrixResponse matrixResponse = response.jsonPath()
+                .getObject(".", ApproximatePathMatrixResponse.class);
+        final List<Integer> upperBounds = matrixResponse.getUpperBounds().get(0);
+        assertThat(upperBounds.get(0)).isZero();
+        assertThat(upperBounds.get(1)).isBetween(20, 20 * matrixResponse.getStretch());
+        assertThat(upperBounds.get(2)).isNull();
+        assertThat(matrixResponse.getEstimates().get(0).get(2)).isNull();
+    }
+
+    @DisplayName("출발역에서 최대 거리와 최대 요금 안에 도달할 수 있는 역을 조회할 수 있다.")
+    @Test
+    public void findReachableStations() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("역삼역");
+        final Long stationId4 = extractStationIdFromName("양재역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("3호선", stationId2, stationId3, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId4, 5, 900);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths/reachable?source=" + stationId1 + "&age=21&maxDistance=15&maxFare=1350");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final List<ReachableStationResponse> responses = response.jsonPath()
+                .getList(".", ReachableStationResponse.class);
+        assertThat(responses).extracting("id", "distance", "fare")
+                .containsExactly(
+                        tuple(stationId1, 0, 1250),
+                        tuple(stationId2, 10, 1250)
+                );
+    }
+
+    @DisplayName("최대 거리와 최대 요금을 모두 입력하지 않으면 도달할 수 있는 역을 조회할 수 없다.")
+    @Test
+    public void findReachableStationsWithoutLimit() {
+        // given
+        final Long stationId = extractStationIdFromName("교대역");
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths/reachable?source=" + stationId + "&age=21");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("경로 없이 출발역과 도착역 사이의 거리와 요금만 조회할 수 있다.")
+    @Test
+    public void quoteFare() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        final Long stationId3 = extractStationIdFromName("양재역");
+
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+        requestLineWithExtraFare("신분당선", stationId2, stationId3, 10, 900);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths/fare-quote?source=" + stationId1 + "&target=" + stationId3 + "&age=21");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final FareQuoteResponse quoteResponse = response.jsonPath().getObject(".", FareQuoteResponse.class);
+        assertThat(quoteResponse.getDistance()).isEqualTo(20);
+        assertThat(quoteResponse.getFare()).isEqualTo(2350);
+
+        final HubLabelResponse indexResponse = AcceptanceFixture.get("/paths/fare-quote/index")
+                .jsonPath()
+                .getObject(".", HubLabelResponse.class);
+        assertThat(indexResponse.getStationCount()).isEqualTo(3);
+        assertThat(indexResponse.getMaxLabelSize()).isLessThanOrEqualTo(3);
+    }
+
+    @DisplayName("나이를 입력하지 않으면 요금을 조회할 수 없다.")
+    @Test
+    public void quoteFareWithoutAge() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.get(
+                "/paths/fare-quote?source=" + stationId1 + "&target=" + stationId2);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("같은 경로를 다시 조회하면 계산하지 않고 캐시된 경로를 사용한다.")
+    @Test
+    public void findPathStats() {
+        // given
+        final Long stationId1 = extractStationIdFromName("교대역");
+        final Long stationId2 = extractStationIdFromName("강남역");
+        requestLineWithExtraFare("2호선", stationId1, stationId2, 10, DEFAULT_FARE);
+        final PathStatsResponse before = findStats();
+
+        // when
+        AcceptanceFixture.get("/paths?source=" + stationId1 + "&target=" + stationId2 + "&age=21");
+        AcceptanceFixture.get("/paths?source=" + stationId2 + "&target=" + stationId1 + "&age=21");
+        final PathStatsResponse after = findStats();
+
+        // then
+        assertThat(after.getComputationCount() - before.getComputationCount()).isEqualTo(1);
+        assertThat(after.getCacheHitCount() - before.getCacheHitCount()).isEqualTo(1);
+    }
+
+    private PathStatsResponse findStats() {
+        return AcceptanceFixture.get("/paths/stats")
+                .jsonPath()
+                .getObject(".", PathStatsResponse.class);
+    }
+
     private void requestLineWithExtraFare(String lineName, Long sourceStationId, Long targetStationId, int distance, int extraFare) {
         final LineRequest params = new LineRequest(lineName, "bg-red-600", sourceStationId, targetStationId, distance, extraFare);
         AcceptanceFixture.post(params, "/lines");
@@ -30,6 +30,35 @@ public class StationAcceptanceTest extends AcceptanceTest {
         assertThat(response.as(StationResponse.class).getName()).isEqualTo("강남역");
     }
 
+    @DisplayName("위도와 경도가 있는 지하철역을 생성한다.")
+    @Test
+    void createStationWithCoordinate() {
+        // given
+        final StationRequest params = new StationRequest("강남역", 37.4979, 127.0276);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.post(params, "/stations");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        final StationResponse stationResponse = response.as(StationResponse.class);
+        assertThat(stationResponse.getLatitude()).isEqualTo(37.4979);
+        assertThat(stationResponse.getLongitude()).isEqualTo(127.0276);
+    }
+
+    @DisplayName("위도와 경도 중 하나만 입력하면 지하철역 생성에 실패한다.")
+    @Test
+    void createStationWithPartialCoordinate() {
+        // given
+        final StationRequest params = new StationRequest("강남역", 37.4979, null);
+
+        // when
+        final ExtractableResponse<Response> response = AcceptanceFixture.post(params, "/stations");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     @DisplayName("기존에 존재하는 지하철역 이름으로 지하철역을 생성하면 생성에 실패한다.")
     @Test
     void createStationWithDuplicateName() {
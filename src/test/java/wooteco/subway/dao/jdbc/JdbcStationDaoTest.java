@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.vo.Coordinate;
 
 @JdbcTest
 class JdbcStationDaoTest {
@@ -33,6 +34,23 @@ class JdbcStationDaoTest {
         assertThat(station.getName()).isEqualTo(savedStation.getName());
     }
 
+    @Test
+    @DisplayName("지하철역의 위도와 경도를 함께 저장하고 조회할 수 있다.")
+    void saveWithCoordinate() {
+        // given
+        final Station station = new Station("강남역", Coordinate.of(37.4979, 127.0276));
+
+        // when
+        final Station savedStation = jdbcStationDao.save(station);
+        final Station foundStation = jdbcStationDao.findById(savedStation.getId()).orElseThrow();
+
+        // then
+        assertThat(foundStation.getCoordinate()).contains(Coordinate.of(37.4979, 127.0276));
+        assertThat(jdbcStationDao.findById(jdbcStationDao.save(new Station("역삼역")).getId())
+                .orElseThrow()
+                .getCoordinate()).isEmpty();
+    }
+
     @Test
     @DisplayName("지하철역 목록을 조회할 수 있다.")
     void findAll() {
@@ -0,0 +1,117 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.AStarPathGenerator;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.domain.vo.Coordinate;
+
+class AStarPathGeneratorTest {
+
+    private static final int GRID_SIZE = 15;
+    private static final double GRID_SPACING = 0.01;
+
+    @DisplayName("좌표가 없는 역이 있으면 다익스트라로 최단 경로를 구한다.")
+    @Test
+    public void generatePathWithoutCoordinates() {
+        // given
+        final AStarPathGenerator pathGenerator = new AStarPathGenerator();
+
+        // when
+        final Path path = pathGenerator.generatePath(SAMPLE_SECTIONS, station1, station6);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+    }
+
+    @DisplayName("좌표가 있으면 좌표가 없을 때와 같은 최단 거리를 구한다.")
+    @Test
+    public void sameWeightWithCoordinates() {
+        // given
+        final Station[][] locatedGrid = createGrid(true);
+        final Station[][] plainGrid = createGrid(false);
+        final AStarPathGenerator pathGenerator = new AStarPathGenerator();
+        final PathFinder aStarFinder = pathGenerator.prepare(RoutingGraph.from(connect(locatedGrid)));
+        final PathFinder dijkstraFinder = pathGenerator.prepare(RoutingGraph.from(connect(plainGrid)));
+        final int middle = GRID_SIZE / 2;
+
+        // when
+        final Path aStarPath = aStarFinder.findPath(locatedGrid[middle][0], locatedGrid[middle][GRID_SIZE - 1]);
+        final Path dijkstraPath = dijkstraFinder.findPath(plainGrid[middle][0], plainGrid[middle][GRID_SIZE - 1]);
+
+        // then
+        assertThat(aStarPath.getShortestPathWeight()).isEqualTo(dijkstraPath.getShortestPathWeight());
+        assertThat(aStarPath.getShortestPath()).hasSize(dijkstraPath.getShortestPath().size());
+    }
+
+    @DisplayName("좌표가 있어도 모든 출발역과 도착역 쌍에 대해 같은 최단 거리를 구한다.")
+    @Test
+    public void sameWeightAsCsr() {
+        // given
+        final Station[][] grid = createGrid(true);
+        final RoutingGraph routingGraph = RoutingGraph.from(connect(grid));
+        final PathFinder aStarFinder = new AStarPathGenerator().prepare(routingGraph);
+        final PathFinder csrFinder = new CsrPathGenerator().prepare(routingGraph);
+
+        // when & then
+        for (Station[] sourceRow : grid) {
+            for (Station target : grid[GRID_SIZE - 1]) {
+                final Station source = sourceRow[0];
+                assertThat(aStarFinder.findPath(source, target).getShortestPathWeight())
+                        .isEqualTo(csrFinder.findPath(source, target).getShortestPathWeight());
+            }
+        }
+    }
+
+    private Station[][] createGrid(boolean located) {
+        final Station[][] grid = new Station[GRID_SIZE][GRID_SIZE];
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                final long id = (long) row * GRID_SIZE + column + 1;
+                grid[row][column] = new Station(id, "station" + id, located ? coordinateOf(row, column) : null);
+            }
+        }
+        return grid;
+    }
+
+    private List<Section> connect(Station[][] grid) {
+        final List<Section> sections = new ArrayList<>();
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int column = 0; column < GRID_SIZE; column++) {
+                if (column + 1 < GRID_SIZE) {
+                    sections.add(new Section(sections.size() + 1L, line1, grid[row][column], grid[row][column + 1],
+                            distanceBetween(row, column, row, column + 1)));
+                }
+                if (row + 1 < GRID_SIZE) {
+                    sections.add(new Section(sections.size() + 1L, line1, grid[row][column], grid[row + 1][column],
+                            distanceBetween(row, column, row + 1, column)));
+                }
+            }
+        }
+        return sections;
+    }
+
+    private int distanceBetween(int upRow, int upColumn, int downRow, int downColumn) {
+        return (int) Math.ceil(coordinateOf(upRow, upColumn).distanceTo(coordinateOf(downRow, downColumn)));
+    }
+
+    private Coordinate coordinateOf(int row, int column) {
+        return Coordinate.of(37.5 + row * GRID_SPACING, 127.0 + column * GRID_SPACING);
+    }
+}
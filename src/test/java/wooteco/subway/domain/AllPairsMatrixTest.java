@@ -0,0 +1,102 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.STATIONS;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.AllPairsMatrix;
+import wooteco.subway.domain.path.AllPairsPathGenerator;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.exception.IllegalPathException;
+
+class AllPairsMatrixTest {
+
+    @DisplayName("다음 역 행렬을 따라가며 최단 경로와 구간 정보를 복원한다.")
+    @Test
+    public void findPath() {
+        // given
+        final AllPairsMatrix matrix = AllPairsMatrix.from(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when
+        final Path path = matrix.findPath(station6, station1);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station6, station7, station3, station4, station2, station1);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+        assertThat(path.getShortestEdge()).hasSize(5)
+                .extracting("id")
+                .containsExactly(4L, 7L, 6L, 5L, 1L);
+    }
+
+    @DisplayName("모든 출발역과 도착역 쌍의 거리가 다익스트라 결과와 같다.")
+    @Test
+    public void sameDistanceAsDijkstra() {
+        // given
+        final RoutingGraph routingGraph = RoutingGraph.from(SAMPLE_SECTIONS);
+        final PathFinder dijkstra = new CsrPathGenerator().prepare(routingGraph);
+        final AllPairsMatrix matrix = AllPairsMatrix.from(routingGraph);
+
+        // when & then
+        for (Station source : STATIONS) {
+            for (Station target : STATIONS) {
+                assertThat(matrix.distance(source, target))
+                        .isEqualTo(dijkstra.findPath(source, target).getShortestPathWeight());
+            }
+        }
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로를 찾으면 예외가 발생한다.")
+    @Test
+    public void notConnected() {
+        // given
+        final AllPairsMatrix matrix = AllPairsMatrix.from(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 1),
+                new Section(2L, line2, station3, station4, 1)
+        )));
+
+        // when & then
+        assertThatThrownBy(() -> matrix.findPath(station1, station4))
+                .isInstanceOf(IllegalPathException.class);
+    }
+
+    @DisplayName("행렬이 메모리 예산을 넘으면 요청마다 탐색해서 경로를 찾는다.")
+    @Test
+    public void fallbackWhenOverBudget() {
+        // given
+        final AllPairsPathGenerator pathGenerator = new AllPairsPathGenerator(1L);
+
+        // when
+        final Path path = pathGenerator.generatePath(SAMPLE_SECTIONS, station1, station6);
+
+        // then
+        assertThat(AllPairsMatrix.requiredBytes(STATIONS.size())).isGreaterThan(1L);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+        assertThat(path.getShortestEdge())
+                .extracting("id", "upStation", "downStation")
+                .contains(tuple(1L, station1, station2));
+    }
+
+    @DisplayName("메모리 예산이 충분해도 배열 크기를 넘는 행렬은 만들지 않는다.")
+    @Test
+    public void doesNotFitBeyondArrayLimit() {
+        // when & then
+        assertThat(AllPairsMatrix.fitsIn(STATIONS.size(), AllPairsMatrix.requiredBytes(STATIONS.size()))).isTrue();
+        assertThat(AllPairsMatrix.fitsIn(50_000, Long.MAX_VALUE)).isFalse();
+    }
+}
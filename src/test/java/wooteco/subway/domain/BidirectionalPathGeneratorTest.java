@@ -0,0 +1,102 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.STATIONS;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.BidirectionalPathGenerator;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.exception.IllegalPathException;
+
+class BidirectionalPathGeneratorTest {
+
+    @DisplayName("양방향 탐색으로 최단 경로와 구간 정보를 구할 수 있다.")
+    @Test
+    public void generatePath() {
+        // given
+        final BidirectionalPathGenerator pathGenerator = new BidirectionalPathGenerator();
+
+        // when
+        final Path path = pathGenerator.generatePath(SAMPLE_SECTIONS, station1, station6);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+        assertThat(path.getShortestEdge()).hasSize(5)
+                .extracting("id", "upStation", "downStation")
+                .containsExactly(
+                        tuple(1L, station1, station2),
+                        tuple(5L, station2, station4),
+                        tuple(6L, station4, station3),
+                        tuple(7L, station3, station7),
+                        tuple(4L, station7, station6)
+                );
+    }
+
+    @DisplayName("모든 출발역과 도착역 쌍에 대해 단방향 탐색과 같은 최단 거리를 구한다.")
+    @Test
+    public void sameWeightAsForwardSearch() {
+        // given
+        final RoutingGraph routingGraph = RoutingGraph.from(SAMPLE_SECTIONS);
+        final PathFinder forwardPathFinder = new CsrPathGenerator().prepare(routingGraph);
+        final PathFinder bidirectionalPathFinder = new BidirectionalPathGenerator().prepare(routingGraph);
+
+        // when & then
+        for (Station source : STATIONS) {
+            for (Station target : STATIONS) {
+                final Path expected = forwardPathFinder.findPath(source, target);
+                final Path actual = bidirectionalPathFinder.findPath(source, target);
+
+                assertThat(actual.getShortestPathWeight()).isEqualTo(expected.getShortestPathWeight());
+                assertThat(actual.getShortestPath().get(0)).isEqualTo(source);
+                assertThat(actual.getShortestPath().get(actual.getShortestPath().size() - 1)).isEqualTo(target);
+            }
+        }
+    }
+
+    @DisplayName("출발역과 도착역이 같으면 거리가 0인 경로를 반환한다.")
+    @Test
+    public void sameSourceAndTarget() {
+        // given
+        final BidirectionalPathGenerator pathGenerator = new BidirectionalPathGenerator();
+
+        // when
+        final Path path = pathGenerator.generatePath(SAMPLE_SECTIONS, station3, station3);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station3);
+        assertThat(path.getShortestPathWeight()).isEqualTo(0);
+        assertThat(path.getShortestEdge()).isEmpty();
+    }
+
+    @DisplayName("출발역과 도착역이 연결되어 있지 않으면 예외가 발생한다.")
+    @Test
+    public void notConnected() {
+        // given
+        final List<Section> sections = List.of(
+                new Section(1L, line1, station1, station2, 1),
+                new Section(2L, line2, station3, station4, 1)
+        );
+        final BidirectionalPathGenerator pathGenerator = new BidirectionalPathGenerator();
+
+        // when & then
+        assertThatThrownBy(() -> pathGenerator.generatePath(sections, station1, station4))
+                .isInstanceOf(IllegalPathException.class);
+    }
+}
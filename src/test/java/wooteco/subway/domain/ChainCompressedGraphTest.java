@@ -0,0 +1,114 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.DISCONNECTED_SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.createLine;
+import static wooteco.subway.domain.PathFixture.createLineWithExpress;
+import static wooteco.subway.domain.PathFixture.createStations;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station5;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+import static wooteco.subway.domain.PathFixture.station9;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.ChainCompressedGraph;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.exception.IllegalPathException;
+
+class ChainCompressedGraphTest {
+
+    @DisplayName("환승역 사이의 역을 건너뛰어 탐색하고 결과는 원래 역과 구간으로 펼친다.")
+    @Test
+    public void expandCompressedPath() {
+        // given
+        final RoutingGraph routingGraph = RoutingGraph.from(DISCONNECTED_SAMPLE_SECTIONS);
+        final ChainCompressedGraph compressedGraph = ChainCompressedGraph.from(routingGraph);
+
+        // when
+        final Path path = compressedGraph.findPath(station5, station3);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station5, station7, station3);
+        assertThat(path.getShortestPathWeight()).isEqualTo(3);
+        assertThat(path.getShortestEdge()).extracting("id").containsExactly(3L, 7L);
+        assertThat(compressedGraph.findPath(station1, station6).getShortestPath())
+                .containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThatThrownBy(() -> compressedGraph.findPath(station1, station9))
+                .isInstanceOf(IllegalPathException.class);
+    }
+
+    @DisplayName("모든 출발역과 도착역 쌍에 대해 다익스트라와 같은 최단 거리를 구한다.")
+    @Test
+    public void sameWeightAsDijkstra() {
+        // given
+        final List<Station> stations = createStations(30);
+        final RoutingGraph routingGraph = RoutingGraph.from(createLineWithExpress(stations));
+        final PathFinder dijkstra = new CsrPathGenerator().prepare(routingGraph);
+        final ChainCompressedGraph compressedGraph = ChainCompressedGraph.from(routingGraph);
+
+        // when & then
+        for (Station source : stations) {
+            for (Station target : stations) {
+                final Path actual = compressedGraph.findPath(source, target);
+
+                assertThat(actual.getShortestPathWeight())
+                        .isEqualTo(dijkstra.findPath(source, target).getShortestPathWeight());
+                assertThat(actual.getShortestPath()).startsWith(source).endsWith(target);
+                assertThat(actual.getShortestEdge()).hasSize(actual.getShortestPath().size() - 1);
+            }
+        }
+    }
+
+    @DisplayName("환승역이 없는 순환선에서도 최단 경로를 찾는다.")
+    @Test
+    public void circularLineWithoutTransfer() {
+        // given
+        final List<Station> stations = createStations(8);
+        final List<Section> sections = createLine(stations, line1);
+        sections.add(new Section(100L, line1, stations.get(7), stations.get(0), 1));
+
+        // when
+        final ChainCompressedGraph compressedGraph = ChainCompressedGraph.from(RoutingGraph.from(sections));
+
+        // then
+        assertThat(compressedGraph.getCoreCount()).isEqualTo(1);
+        assertThat(compressedGraph.findPath(stations.get(1), stations.get(6)).getShortestPath())
+                .containsExactly(stations.get(1), stations.get(0), stations.get(7), stations.get(6));
+    }
+
+    @DisplayName("노선 중간의 역을 접어 탐색할 역 수를 70% 이상 줄인다.")
+    @Test
+    public void reduceVertices() {
+        // given
+        final List<Station> horizontal = createStations(1, 20);
+        final List<Station> vertical = createStations(21, 40);
+        final List<Section> sections = createLine(horizontal, line1);
+        final List<Section> verticalSections = createLine(vertical, line2);
+        for (int index = 0; index < verticalSections.size(); index++) {
+            final Section section = verticalSections.get(index);
+            sections.add(new Section(200L + index, line2, section.getUpStation(), section.getDownStation(),
+                    section.getDistance()));
+        }
+        sections.add(new Section(300L, line2, horizontal.get(9), vertical.get(0), 2));
+
+        // when
+        final ChainCompressedGraph compressedGraph = ChainCompressedGraph.from(RoutingGraph.from(sections));
+
+        // then
+        assertThat(compressedGraph.getStationCount()).isEqualTo(40);
+        assertThat(compressedGraph.getCoreCount()).isLessThanOrEqualTo(40 * 3 / 10);
+        assertThat(compressedGraph.findPath(horizontal.get(0), vertical.get(19)).getShortestPath()).hasSize(30);
+    }
+}
@@ -0,0 +1,90 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station5;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.fare.Fare;
+import wooteco.subway.domain.path.CheapestPathFinder;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.exception.IllegalPathException;
+
+class CheapestPathFinderTest {
+
+    private static final IntBinaryOperator ADULT_FARE = (distance, extraFare) ->
+            new Fare(distance, extraFare, 20).calculate();
+
+    @DisplayName("추가 요금이 있는 노선을 피하는 경로가 더 저렴하면 거리가 길더라도 그 경로를 찾는다.")
+    @Test
+    public void avoidExtraFareLine() {
+        // given
+        final CheapestPathFinder finder = new CheapestPathFinder(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when
+        final Path path = finder.findPath(station1, station6, ADULT_FARE);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station5, station7, station6);
+        assertThat(path.getShortestPathWeight()).isEqualTo(6);
+    }
+
+    @DisplayName("추가 요금을 내더라도 거리 요금이 더 많이 줄어들면 추가 요금이 있는 노선을 이용한다.")
+    @Test
+    public void useExtraFareLine() {
+        // given
+        final CheapestPathFinder finder = new CheapestPathFinder(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 100),
+                new Section(2L, line2, station1, station2, 10)
+        )));
+
+        // when
+        final Path path = finder.findPath(station1, station2, ADULT_FARE);
+
+        // then
+        assertThat(path.getShortestEdge()).extracting("id").containsExactly(2L);
+    }
+
+    @DisplayName("요금이 같은 경로가 여러 개면 거리가 가장 짧은 경로를 찾는다.")
+    @Test
+    public void shortestAmongCheapest() {
+        // given
+        final CheapestPathFinder finder = new CheapestPathFinder(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 8),
+                new Section(2L, line1, station1, station2, 4)
+        )));
+
+        // when
+        final Path path = finder.findPath(station1, station2, ADULT_FARE);
+
+        // then
+        assertThat(path.getShortestPathWeight()).isEqualTo(4);
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로를 찾으면 예외가 발생한다.")
+    @Test
+    public void notConnected() {
+        // given
+        final CheapestPathFinder finder = new CheapestPathFinder(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 1),
+                new Section(2L, line2, station3, station4, 1)
+        )));
+
+        // when & then
+        assertThatThrownBy(() -> finder.findPath(station1, station4, ADULT_FARE))
+                .isInstanceOf(IllegalPathException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.STATIONS;
+import static wooteco.subway.domain.PathFixture.createLineWithExpress;
+import static wooteco.subway.domain.PathFixture.createStations;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.ContractionHierarchy;
+import wooteco.subway.domain.path.ContractionHierarchyPathGenerator;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+
+class ContractionHierarchyTest {
+
+    @DisplayName("지름길 간선으로 찾은 경로를 원래 구간 목록으로 풀어서 반환한다.")
+    @Test
+    public void unpackShortcuts() {
+        // given
+        final ContractionHierarchy hierarchy = ContractionHierarchy.from(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when
+        final Path path = hierarchy.findPath(station1, station6);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+        assertThat(path.getShortestEdge()).hasSize(5)
+                .extracting("id", "upStation", "downStation")
+                .containsExactly(
+                        tuple(1L, station1, station2),
+                        tuple(5L, station2, station4),
+                        tuple(6L, station4, station3),
+                        tuple(7L, station3, station7),
+                        tuple(4L, station7, station6)
+                );
+    }
+
+    @DisplayName("긴 노선에서도 모든 출발역과 도착역 쌍에 대해 다익스트라와 같은 최단 거리를 구한다.")
+    @Test
+    public void sameWeightAsDijkstra() {
+        // given
+        final List<Station> stations = createStations(30);
+        final RoutingGraph routingGraph = RoutingGraph.from(createLineWithExpress(stations));
+        final PathFinder dijkstra = new CsrPathGenerator().prepare(routingGraph);
+        final ContractionHierarchy hierarchy = ContractionHierarchy.from(routingGraph);
+
+        // when & then
+        for (Station source : stations) {
+            for (Station target : stations) {
+                final Path expected = dijkstra.findPath(source, target);
+                final Path actual = hierarchy.findPath(source, target);
+
+                assertThat(actual.getShortestPathWeight()).isEqualTo(expected.getShortestPathWeight());
+                assertThat(actual.getShortestEdge().stream().mapToInt(Section::getDistance).sum())
+                        .isEqualTo(expected.getShortestPathWeight());
+            }
+        }
+    }
+
+    @DisplayName("전처리가 끝나기 전에도 경로 생성기는 올바른 최단 경로를 반환한다.")
+    @Test
+    public void generatePathWhilePreparing() {
+        // given
+        final ContractionHierarchyPathGenerator pathGenerator = new ContractionHierarchyPathGenerator();
+        final PathFinder pathFinder = pathGenerator.prepare(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when & then
+        for (Station source : STATIONS) {
+            final Path path = pathFinder.findPath(source, station6);
+            assertThat(path.getShortestPath().get(path.getShortestPath().size() - 1)).isEqualTo(station6);
+        }
+        assertThat(pathFinder.findPath(station1, station6).getShortestPathWeight()).isEqualTo(5);
+    }
+}
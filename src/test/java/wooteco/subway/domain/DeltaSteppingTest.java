@@ -0,0 +1,95 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.DISCONNECTED_SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.connectGrid;
+import static wooteco.subway.domain.PathFixture.createGrid;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+import static wooteco.subway.domain.PathFixture.station9;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import wooteco.subway.domain.path.DeltaStepping;
+import wooteco.subway.domain.path.DeltaSteppingPathGenerator;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.domain.path.ShortestPathTree;
+import wooteco.subway.exception.IllegalPathException;
+
+class DeltaSteppingTest {
+
+    private static final int GRID_SIZE = 60;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @DisplayName("버킷 너비와 관계없이 다익스트라와 같은 최단 경로 트리를 만든다.")
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 5, 100})
+    public void sameTreeAsDijkstra(int bucketWidth) {
+        // given
+        final RoutingGraph routingGraph = RoutingGraph.from(DISCONNECTED_SAMPLE_SECTIONS);
+
+        // when
+        final ShortestPathTree tree = DeltaStepping.from(routingGraph, station1, bucketWidth, pool);
+
+        // then
+        final ShortestPathTree expected = ShortestPathTree.from(routingGraph, station1);
+        assertThat(tree.getReachableStations()).containsExactlyInAnyOrderElementsOf(expected.getReachableStations());
+        for (Station station : expected.getReachableStations()) {
+            assertThat(tree.distanceTo(station)).isEqualTo(expected.distanceTo(station));
+            assertThat(tree.maxExtraFareTo(station)).isEqualTo(expected.maxExtraFareTo(station));
+        }
+        assertThat(tree.pathTo(station6).getShortestPath())
+                .containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(tree.isReachable(station9)).isFalse();
+    }
+
+    @DisplayName("출발역에서 많은 역으로 퍼지는 큰 노선도에서도 병렬로 같은 최단 거리를 구한다.")
+    @Test
+    public void sameDistancesOnLargeGraph() {
+        // given
+        final Station[][] grid = createGrid(GRID_SIZE);
+        final RoutingGraph routingGraph = RoutingGraph.from(
+                connectGrid(grid, (row, column) -> (row * 7 + column * 3) % 5 + 1));
+        final Station source = grid[GRID_SIZE / 2][GRID_SIZE / 2];
+
+        // when
+        final ShortestPathTree tree = DeltaStepping.from(routingGraph, source, 50, pool);
+
+        // then
+        final ShortestPathTree expected = ShortestPathTree.from(routingGraph, source);
+        for (Station[] row : grid) {
+            for (Station station : row) {
+                assertThat(tree.distanceTo(station)).isEqualTo(expected.distanceTo(station));
+            }
+        }
+    }
+
+    @DisplayName("경로 생성기는 출발역과 도착역 사이의 최단 경로를 찾고 연결되지 않으면 예외를 던진다.")
+    @Test
+    public void findPath() {
+        // given
+        final DeltaSteppingPathGenerator pathGenerator = new DeltaSteppingPathGenerator(2);
+        final PathFinder pathFinder = pathGenerator.prepare(RoutingGraph.from(DISCONNECTED_SAMPLE_SECTIONS));
+
+        // when & then
+        assertThat(pathFinder.findPath(station1, station6).getShortestPathWeight()).isEqualTo(5);
+        assertThatThrownBy(() -> pathFinder.findPath(station1, station9))
+                .isInstanceOf(IllegalPathException.class);
+    }
+}
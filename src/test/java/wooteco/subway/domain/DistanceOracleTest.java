@@ -0,0 +1,99 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.createLine;
+import static wooteco.subway.domain.PathFixture.createStations;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station5;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import wooteco.subway.domain.path.ApproximateDistance;
+import wooteco.subway.domain.path.DistanceOracle;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.domain.path.ShortestPathTree;
+
+class DistanceOracleTest {
+
+    @DisplayName("모든 출발역과 도착역 쌍에 대해 추정 거리의 범위가 실제 거리를 포함하고 상한은 보장된 배율 이내다.")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    public void boundsContainDistance(int level) {
+        // given
+        final List<Station> stations = createStations(40);
+        final RoutingGraph routingGraph = RoutingGraph.from(createSections(stations));
+        final DistanceOracle distanceOracle = DistanceOracle.from(routingGraph, level);
+
+        // when & then
+        assertThat(distanceOracle.getStretch()).isEqualTo(2 * level - 1);
+        for (Station source : stations) {
+            final ShortestPathTree tree = ShortestPathTree.from(routingGraph, source);
+            for (Station target : stations) {
+                final int distance = tree.distanceTo(target);
+                final ApproximateDistance approximateDistance = distanceOracle.estimate(source, target).orElseThrow();
+
+                assertThat(approximateDistance.getLowerBound()).isLessThanOrEqualTo(distance);
+                assertThat(approximateDistance.getUpperBound()).isBetween(distance,
+                        distance * distanceOracle.getStretch());
+                assertThat(approximateDistance.getEstimate()).isBetween(approximateDistance.getLowerBound(),
+                        approximateDistance.getUpperBound());
+            }
+        }
+    }
+
+    @DisplayName("1단계 추정기는 모든 쌍의 정확한 거리를 저장한다.")
+    @Test
+    public void exactWithSingleLevel() {
+        // given
+        final List<Station> stations = createStations(10);
+        final RoutingGraph routingGraph = RoutingGraph.from(createSections(stations));
+
+        // when
+        final DistanceOracle distanceOracle = DistanceOracle.from(routingGraph, 1);
+
+        // then
+        assertThat(distanceOracle.getBunchEntryCount()).isEqualTo(stations.size() * stations.size());
+        assertThat(distanceOracle.estimate(stations.get(0), stations.get(9)).orElseThrow().isExact()).isTrue();
+    }
+
+    @DisplayName("연결되지 않았거나 구간이 없는 역 사이의 거리는 추정하지 않는다.")
+    @Test
+    public void notConnected() {
+        // given
+        final DistanceOracle distanceOracle = DistanceOracle.from(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 3),
+                new Section(2L, line1, station3, station4, 4)
+        )), 2);
+
+        // when & then
+        assertThat(distanceOracle.estimate(station1, station3)).isEmpty();
+        assertThat(distanceOracle.estimate(station1, station5)).isEmpty();
+        assertThat(distanceOracle.estimate(station3, station4).orElseThrow().getUpperBound()).isEqualTo(4);
+    }
+
+    @DisplayName("추정 단계는 1 이상이어야 한다.")
+    @Test
+    public void invalidLevel() {
+        assertThatThrownBy(() -> DistanceOracle.from(RoutingGraph.from(createSections(createStations(3))), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Section> createSections(List<Station> stations) {
+        final List<Section> sections = createLine(stations, line1);
+        if (stations.size() > 30) {
+            sections.add(new Section(100L, line2, stations.get(3), stations.get(20), 7));
+            sections.add(new Section(101L, line2, stations.get(10), stations.get(27), 5));
+            sections.add(new Section(102L, line2, stations.get(15), stations.get(35), 6));
+        }
+        return sections;
+    }
+}
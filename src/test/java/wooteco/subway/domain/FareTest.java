@@ -53,4 +53,15 @@ class FareTest {
         // then
         assertThat(result).isEqualTo(expectedFare);
     }
+
+    @DisplayName("주어진 요금 안에서 이동할 수 있는 최대 거리를 구한다.")
+    @ParameterizedTest
+    @CsvSource(value = {"1249, 100, -1", "1250, 100, 10", "1350, 100, 15", "1450, 100, 20", "1450, 12, 12"})
+    public void maxDistanceWithin(int fareLimit, int distanceLimit, int expectedDistance) {
+        // when
+        final int result = Fare.maxDistanceWithin(fareLimit, NO_DISCOUNT_AGE, distanceLimit);
+
+        // then
+        assertThat(result).isEqualTo(expectedDistance);
+    }
 }
@@ -0,0 +1,68 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.DISCONNECTED_SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.createLineWithExpress;
+import static wooteco.subway.domain.PathFixture.createStations;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station5;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station9;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.HubLabels;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.exception.IllegalPathException;
+
+class HubLabelsTest {
+
+    @DisplayName("두 역의 라벨을 병합해 최단 거리와 최단 경로의 추가 요금을 구한다.")
+    @Test
+    public void distanceAndExtraFare() {
+        // given
+        final HubLabels hubLabels = HubLabels.from(RoutingGraph.from(DISCONNECTED_SAMPLE_SECTIONS));
+
+        // when & then
+        assertThat(hubLabels.distance(station1, station6)).isEqualTo(5);
+        assertThat(hubLabels.maxExtraFare(station1, station6)).isEqualTo(900);
+        assertThat(hubLabels.distance(station1, station5)).isEqualTo(3);
+        assertThat(hubLabels.maxExtraFare(station1, station5)).isEqualTo(0);
+        assertThat(hubLabels.distance(station6, station6)).isEqualTo(0);
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 거리는 조회할 수 없다.")
+    @Test
+    public void notConnected() {
+        // given
+        final HubLabels hubLabels = HubLabels.from(RoutingGraph.from(DISCONNECTED_SAMPLE_SECTIONS));
+
+        // when & then
+        assertThatThrownBy(() -> hubLabels.distance(station1, station9))
+                .isInstanceOf(IllegalPathException.class);
+    }
+
+    @DisplayName("모든 출발역과 도착역 쌍에 대해 다익스트라와 같은 최단 거리를 구한다.")
+    @Test
+    public void sameAsDijkstra() {
+        // given
+        final List<Station> stations = createStations(30);
+        final RoutingGraph routingGraph = RoutingGraph.from(createLineWithExpress(stations));
+        final PathFinder dijkstra = new CsrPathGenerator().prepare(routingGraph);
+        final HubLabels hubLabels = HubLabels.from(routingGraph);
+
+        // when & then
+        for (Station source : stations) {
+            for (Station target : stations) {
+                assertThat(hubLabels.distance(source, target))
+                        .isEqualTo(dijkstra.findPath(source, target).getShortestPathWeight());
+            }
+        }
+        assertThat(hubLabels.getStationCount()).isEqualTo(stations.size());
+        assertThat(hubLabels.getLabelCount()).isLessThan(stations.size() * stations.size() / 2);
+    }
+}
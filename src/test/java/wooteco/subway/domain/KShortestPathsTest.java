@@ -0,0 +1,86 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station5;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.KShortestPaths;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.exception.IllegalPathException;
+
+class KShortestPathsTest {
+
+    @DisplayName("최단 경로부터 거리가 짧은 순서로 겹치지 않는 경로를 찾는다.")
+    @Test
+    public void findPaths() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when
+        final List<Path> paths = kShortestPaths.findPaths(station1, station6, 2);
+
+        // then
+        assertThat(paths).extracting("shortestPathWeight").containsExactly(5, 6);
+        assertThat(paths.get(0).getShortestPath())
+                .containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(paths.get(1).getShortestPath())
+                .containsExactly(station1, station2, station5, station7, station6);
+        assertThat(paths.get(1).getShortestEdge()).extracting("id").containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("같은 두 역을 잇는 구간이 여러 개면 서로 다른 경로로 취급한다.")
+    @Test
+    public void parallelSections() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 3),
+                new Section(2L, line2, station1, station2, 4)
+        )));
+
+        // when
+        final List<Path> paths = kShortestPaths.findPaths(station1, station2, 3);
+
+        // then
+        assertThat(paths).extracting("shortestPathWeight").containsExactly(3, 4);
+    }
+
+    @DisplayName("존재하는 경로가 k개보다 적으면 찾은 경로만 반환한다.")
+    @Test
+    public void fewerPathsThanK() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when
+        final List<Path> paths = kShortestPaths.findPaths(station1, station6, 5);
+
+        // then
+        assertThat(paths).hasSize(2);
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로를 찾으면 예외가 발생한다.")
+    @Test
+    public void notConnected() {
+        // given
+        final KShortestPaths kShortestPaths = new KShortestPaths(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 1),
+                new Section(2L, line2, station3, station4, 1)
+        )));
+
+        // when & then
+        assertThatThrownBy(() -> kShortestPaths.findPaths(station1, station4, 2))
+                .isInstanceOf(IllegalPathException.class);
+    }
+}
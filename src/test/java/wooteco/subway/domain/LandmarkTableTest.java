@@ -0,0 +1,118 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.STATIONS;
+import static wooteco.subway.domain.PathFixture.connectGrid;
+import static wooteco.subway.domain.PathFixture.createGrid;
+import static wooteco.subway.domain.PathFixture.createLineWithExpress;
+import static wooteco.subway.domain.PathFixture.createStations;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.LandmarkPathGenerator;
+import wooteco.subway.domain.path.LandmarkTable;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+
+class LandmarkTableTest {
+
+    private static final int GRID_SIZE = 20;
+
+    @DisplayName("역 수보다 많은 랜드마크를 요청하면 모든 역을 랜드마크로 사용한다.")
+    @Test
+    public void landmarkCountIsBoundedByStations() {
+        // when
+        final LandmarkTable landmarkTable = LandmarkTable.from(RoutingGraph.from(SAMPLE_SECTIONS), 100);
+
+        // then
+        assertThat(landmarkTable.getLandmarkCount()).isEqualTo(STATIONS.size());
+        assertThat(landmarkTable.findPath(station1, station6).getShortestPath())
+                .containsExactly(station1, station2, station4, station3, station7, station6);
+    }
+
+    @DisplayName("랜드마크 수가 아주 커도 역 수만큼만 공간을 잡는다.")
+    @Test
+    public void hugeLandmarkCount() {
+        // when
+        final LandmarkTable landmarkTable = LandmarkTable.from(RoutingGraph.from(SAMPLE_SECTIONS), Integer.MAX_VALUE);
+
+        // then
+        assertThat(landmarkTable.getLandmarkCount()).isEqualTo(STATIONS.size());
+    }
+
+    @DisplayName("랜드마크 역 수가 1보다 작으면 예외가 발생한다.")
+    @Test
+    public void invalidLandmarkCount() {
+        // when & then
+        assertThatThrownBy(() -> new LandmarkPathGenerator(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("랜드마크 역 수는 1 이상이어야 합니다.");
+    }
+
+    @DisplayName("긴 노선에서도 모든 출발역과 도착역 쌍에 대해 다익스트라와 같은 최단 거리를 구한다.")
+    @Test
+    public void sameWeightAsDijkstra() {
+        // given
+        final List<Station> stations = createStations(30);
+        final RoutingGraph routingGraph = RoutingGraph.from(createLineWithExpress(stations));
+        final PathFinder dijkstra = new CsrPathGenerator().prepare(routingGraph);
+        final LandmarkTable landmarkTable = LandmarkTable.from(routingGraph, 4);
+
+        // when & then
+        for (Station source : stations) {
+            for (Station target : stations) {
+                final Path expected = dijkstra.findPath(source, target);
+                final Path actual = landmarkTable.findPath(source, target);
+
+                assertThat(actual.getShortestPathWeight()).isEqualTo(expected.getShortestPathWeight());
+            }
+        }
+    }
+
+    @DisplayName("거리가 고르지 않은 격자에서도 다익스트라와 같은 최단 경로를 구한다.")
+    @Test
+    public void sameWeightAsDijkstraOnGrid() {
+        // given
+        final Station[][] grid = createGrid(GRID_SIZE);
+        final RoutingGraph routingGraph = RoutingGraph.from(connectGrid(grid, (row, column) -> (row + column) % 3 + 1));
+        final PathFinder dijkstra = new CsrPathGenerator().prepare(routingGraph);
+        final LandmarkTable landmarkTable = LandmarkTable.from(routingGraph, 8);
+
+        // when & then
+        for (int row = 0; row < GRID_SIZE; row++) {
+            final Station source = grid[row][0];
+            final Station target = grid[GRID_SIZE - 1 - row][GRID_SIZE - 1];
+            final Path expected = dijkstra.findPath(source, target);
+            final Path actual = landmarkTable.findPath(source, target);
+
+            assertThat(actual.getShortestPathWeight()).isEqualTo(expected.getShortestPathWeight());
+            assertThat(actual.getShortestPath()).startsWith(source).endsWith(target);
+        }
+    }
+
+    @DisplayName("랜드마크를 계산하는 동안에도 경로 생성기는 올바른 최단 경로를 반환한다.")
+    @Test
+    public void generatePathWhilePreparing() {
+        // given
+        final LandmarkPathGenerator pathGenerator = new LandmarkPathGenerator(4);
+        final PathFinder pathFinder = pathGenerator.prepare(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when & then
+        for (Station source : STATIONS) {
+            final Path path = pathFinder.findPath(source, station6);
+            assertThat(path.getShortestPath().get(path.getShortestPath().size() - 1)).isEqualTo(station6);
+        }
+        assertThat(pathFinder.findPath(station1, station6).getShortestPathWeight()).isEqualTo(5);
+    }
+}
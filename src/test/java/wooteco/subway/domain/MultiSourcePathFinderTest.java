@@ -0,0 +1,62 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.DISCONNECTED_SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station5;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+import static wooteco.subway.domain.PathFixture.station8;
+import static wooteco.subway.domain.PathFixture.station9;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.MultiSourcePathFinder;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.exception.IllegalPathException;
+
+class MultiSourcePathFinderTest {
+
+    private final MultiSourcePathFinder pathFinder =
+            new MultiSourcePathFinder(RoutingGraph.from(DISCONNECTED_SAMPLE_SECTIONS));
+
+    @DisplayName("여러 출발역과 도착역 중 가장 가까운 쌍의 최단 경로를 찾는다.")
+    @Test
+    public void findClosestPair() {
+        // when
+        final Path path = pathFinder.findPath(List.of(station1, station6), List.of(station3, station5));
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station6, station7, station3);
+        assertThat(path.getShortestPathWeight()).isEqualTo(2);
+    }
+
+    @DisplayName("출발역과 도착역 목록에 같은 역이 있으면 그 역에서 바로 도착한다.")
+    @Test
+    public void sharedStation() {
+        // when
+        final Path path = pathFinder.findPath(List.of(station1, station4), List.of(station4, station6));
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station4);
+        assertThat(path.getShortestPathWeight()).isZero();
+    }
+
+    @DisplayName("구간이 없는 역은 건너뛰고 연결된 쌍이 없으면 예외를 던진다.")
+    @Test
+    public void notConnected() {
+        // given
+        final Station stationWithoutSection = new Station(10L, "J");
+
+        // when & then
+        assertThat(pathFinder.findPath(List.of(stationWithoutSection, station8), List.of(station9))
+                .getShortestPathWeight()).isEqualTo(3);
+        assertThatThrownBy(() -> pathFinder.findPath(List.of(station1, stationWithoutSection), List.of(station9)))
+                .isInstanceOf(IllegalPathException.class);
+    }
+}
@@ -0,0 +1,126 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.ContractionHierarchyPathGenerator;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.JgraphtPathGenerator;
+import wooteco.subway.domain.path.NetworkPatch;
+import wooteco.subway.domain.path.NetworkSnapshot;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PreparationState;
+
+class NetworkSnapshotTest {
+
+    private static final List<Section> SAMPLE_SECTIONS = List.of(
+            new Section(1L, line1, station1, station2, 5),
+            new Section(2L, line1, station2, station3, 5),
+            new Section(3L, line2, station1, station3, 3)
+    );
+
+    @DisplayName("스냅샷에 등록된 역을 id로 조회할 수 있다.")
+    @Test
+    public void findStation() {
+        // given
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, List.of(station1, station2, station3, station4),
+                SAMPLE_SECTIONS, new JgraphtPathGenerator());
+
+        // when & then
+        assertThat(snapshot.findStation(4L)).contains(station4);
+        assertThat(snapshot.findStation(5L)).isEmpty();
+    }
+
+    @DisplayName("스냅샷을 생성할 때 만든 그래프로 여러 번 최단 경로를 조회할 수 있다.")
+    @Test
+    public void findPath() {
+        // given
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, List.of(station1, station2, station3),
+                SAMPLE_SECTIONS, new JgraphtPathGenerator());
+
+        // when
+        final Path path = snapshot.findPath(station1, station3);
+        final Path anotherPath = snapshot.findPath(station2, station3);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station3);
+        assertThat(path.getShortestPathWeight()).isEqualTo(3);
+        assertThat(anotherPath.getShortestPath()).containsExactly(station2, station3);
+        assertThat(anotherPath.getShortestPathWeight()).isEqualTo(5);
+    }
+
+    @DisplayName("역이 추가되면 그래프는 그대로 두고 역 목록만 늘린 스냅샷을 만든다.")
+    @Test
+    public void applyAddedStation() {
+        // given
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, List.of(station1, station2, station3),
+                SAMPLE_SECTIONS, new JgraphtPathGenerator());
+
+        // when
+        final NetworkSnapshot next = snapshot.apply(NetworkPatch.ofAddedStation(station4), 2L).orElseThrow();
+
+        // then
+        assertThat(next.getVersion()).isEqualTo(2L);
+        assertThat(next.findStation(4L)).contains(station4);
+        assertThat(next.getRoutingGraph()).isSameAs(snapshot.getRoutingGraph());
+        assertThat(snapshot.findStation(4L)).isEmpty();
+    }
+
+    @DisplayName("그래프를 직접 읽는 엔진은 구간 변경을 그래프 패치만으로 반영한다.")
+    @Test
+    public void applySectionsWithGraphReadingEngine() {
+        // given
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, List.of(station1, station2, station3),
+                SAMPLE_SECTIONS, new CsrPathGenerator());
+        final Section shortcut = new Section(4L, line1, station2, station3, 1);
+
+        // when
+        final NetworkSnapshot next = snapshot.apply(NetworkPatch.ofSections(List.of(), List.of(shortcut)), 2L)
+                .orElseThrow();
+
+        // then
+        assertThat(next.findPath(station1, station3).getShortestPathWeight()).isEqualTo(3);
+        assertThat(next.findPath(station2, station3).getShortestPathWeight()).isEqualTo(1);
+    }
+
+    @DisplayName("자체 모델을 만드는 엔진은 구간 변경을 패치하지 않고 전체 갱신을 요청한다.")
+    @Test
+    public void applySectionsWithPreparedEngine() {
+        // given
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, List.of(station1, station2, station3),
+                SAMPLE_SECTIONS, new JgraphtPathGenerator());
+        final Section shortcut = new Section(4L, line1, station2, station3, 1);
+
+        // when & then
+        assertThat(snapshot.apply(NetworkPatch.ofSections(List.of(), List.of(shortcut)), 2L)).isEmpty();
+    }
+
+    @DisplayName("사전 계산을 마치면 준비 완료 상태가 된다.")
+    @Test
+    public void preparationState() throws InterruptedException {
+        // given
+        final ContractionHierarchyPathGenerator pathGenerator = new ContractionHierarchyPathGenerator();
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, List.of(station1, station2, station3),
+                SAMPLE_SECTIONS, pathGenerator);
+
+        // when
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (snapshot.getPreparationState() == PreparationState.PREPARING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        pathGenerator.shutdown();
+
+        // then
+        assertThat(snapshot.getPreparationState()).isEqualTo(PreparationState.READY);
+        assertThat(snapshot.findPath(station1, station3).getShortestPathWeight()).isEqualTo(3);
+    }
+}
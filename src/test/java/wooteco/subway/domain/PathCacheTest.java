@@ -0,0 +1,170 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.CachedPath;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.NetworkPatch;
+import wooteco.subway.domain.path.NetworkSnapshot;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathCache;
+
+class PathCacheTest {
+
+    private static final Line line1 = new Line(1L, "2호선", "bg-green-600", 300);
+
+    private static final Station station1 = new Station(1L, "A");
+    private static final Station station2 = new Station(2L, "B");
+    private static final Station station3 = new Station(3L, "C");
+    private static final Station station4 = new Station(4L, "D");
+
+    private static final Section SECTION_A_B = new Section(1L, line1, station1, station2, 5);
+    private static final Section SECTION_B_C = new Section(2L, line1, station2, station3, 5);
+    private static final Section SECTION_C_D = new Section(3L, line1, station3, station4, 5);
+
+    private static final CachedPath PATH_A_C = CachedPath.from(
+            new Path(List.of(station1, station2, station3), 10, List.of(SECTION_A_B, SECTION_B_C)));
+
+    @DisplayName("캐시된 경로는 거리와 노선 추가 요금을 함께 보관한다.")
+    @Test
+    public void getCachedPath() {
+        // given
+        final PathCache pathCache = new PathCache(100);
+        pathCache.put(1L, station1, station3, PATH_A_C);
+
+        // when
+        final CachedPath cachedPath = pathCache.get(1L, station1, station3).orElseThrow();
+
+        // then
+        assertThat(cachedPath.getDistance()).isEqualTo(10);
+        assertThat(cachedPath.getMaxExtraFare()).isEqualTo(300);
+        assertThat(pathCache.getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("도착역에서 출발역으로 가는 경로는 캐시된 경로를 뒤집어 반환한다.")
+    @Test
+    public void getReversedPath() {
+        // given
+        final PathCache pathCache = new PathCache(100);
+        pathCache.put(1L, station1, station3, PATH_A_C);
+
+        // when
+        final CachedPath cachedPath = pathCache.get(1L, station3, station1).orElseThrow();
+
+        // then
+        assertThat(cachedPath.getPath().getShortestPath()).containsExactly(station3, station2, station1);
+        assertThat(cachedPath.getPath().getShortestEdge()).containsExactly(SECTION_B_C, SECTION_A_B);
+    }
+
+    @DisplayName("노선도 버전이 다르면 캐시된 경로를 사용하지 않는다.")
+    @Test
+    public void missOnOtherVersion() {
+        // given
+        final PathCache pathCache = new PathCache(100);
+        pathCache.put(1L, station1, station3, PATH_A_C);
+
+        // when & then
+        assertThat(pathCache.get(2L, station1, station3)).isEmpty();
+        assertThat(pathCache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("캐시는 최대 크기를 넘겨 경로를 보관하지 않는다.")
+    @Test
+    public void boundedSize() {
+        // given
+        final PathCache pathCache = new PathCache(10);
+
+        // when
+        for (long id = 100; id < 200; id++) {
+            pathCache.put(1L, new Station(id, "source"), station3, PATH_A_C);
+        }
+
+        // then
+        assertThat(pathCache.size()).isEqualTo(10);
+    }
+
+    @DisplayName("자주 조회된 경로는 한 번 조회된 경로들에 밀려나지 않는다.")
+    @Test
+    public void keepFrequentlyUsedPath() {
+        // given
+        final PathCache pathCache = new PathCache(10);
+        final Station hotSource = new Station(100L, "hot");
+        for (int i = 0; i < 5; i++) {
+            pathCache.get(1L, hotSource, station3);
+        }
+        pathCache.put(1L, hotSource, station3, PATH_A_C);
+
+        // when
+        for (long id = 200; id < 300; id++) {
+            final Station oneOffSource = new Station(id, "one-off");
+            pathCache.get(1L, oneOffSource, station3);
+            pathCache.put(1L, oneOffSource, station3, PATH_A_C);
+        }
+
+        // then
+        assertThat(pathCache.get(1L, hotSource, station3)).isPresent();
+    }
+
+    @DisplayName("구간이 바뀌면 그 구간을 지나는 경로만 캐시에서 지운다.")
+    @Test
+    public void migrateWithRemovedSection() {
+        // given
+        final NetworkSnapshot snapshot = createSnapshot();
+        final PathCache pathCache = cacheAllPaths(snapshot);
+        final Section split1 = new Section(4L, line1, station3, new Station(5L, "E"), 2);
+        final Section split2 = new Section(5L, line1, new Station(5L, "E"), station4, 3);
+        final NetworkPatch patch = NetworkPatch.ofSections(List.of(SECTION_C_D), List.of(split1, split2));
+
+        // when
+        final NetworkSnapshot next = snapshot.apply(patch, 2L).orElseThrow();
+        pathCache.migrate(1L, next, patch);
+
+        // then
+        assertThat(pathCache.get(2L, station1, station3)).isPresent();
+        assertThat(pathCache.get(2L, station2, station3)).isPresent();
+        assertThat(pathCache.get(2L, station1, station4)).isEmpty();
+        assertThat(pathCache.get(2L, station3, station4)).isEmpty();
+    }
+
+    @DisplayName("새 구간으로 더 짧아질 수 있는 경로만 캐시에서 지운다.")
+    @Test
+    public void migrateWithShortcut() {
+        // given
+        final NetworkSnapshot snapshot = createSnapshot();
+        final PathCache pathCache = cacheAllPaths(snapshot);
+        final Section shortcut = new Section(4L, line1, station1, station3, 4);
+        final NetworkPatch patch = NetworkPatch.ofSections(List.of(), List.of(shortcut));
+
+        // when
+        final NetworkSnapshot next = snapshot.apply(patch, 2L).orElseThrow();
+        pathCache.migrate(1L, next, patch);
+
+        // then
+        assertThat(pathCache.get(2L, station1, station3)).isEmpty();
+        assertThat(pathCache.get(2L, station1, station4)).isEmpty();
+        assertThat(pathCache.get(2L, station1, station2)).isPresent();
+        assertThat(pathCache.get(2L, station2, station4)).isPresent();
+        assertThat(pathCache.getInvalidatedCount()).isEqualTo(2);
+    }
+
+    private NetworkSnapshot createSnapshot() {
+        return new NetworkSnapshot(1L, List.of(station1, station2, station3, station4),
+                List.of(SECTION_A_B, SECTION_B_C, SECTION_C_D), new CsrPathGenerator());
+    }
+
+    private PathCache cacheAllPaths(NetworkSnapshot snapshot) {
+        final PathCache pathCache = new PathCache(100);
+        final List<Station> stations = List.of(station1, station2, station3, station4);
+        for (Station source : stations) {
+            for (Station target : stations) {
+                if (source.getId() < target.getId()) {
+                    pathCache.put(1L, source, target, CachedPath.from(snapshot.findPath(source, target)));
+                }
+            }
+        }
+        return pathCache;
+    }
+}
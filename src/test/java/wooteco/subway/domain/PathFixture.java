@@ -0,0 +1,103 @@
+package wooteco.subway.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+public class PathFixture {
+
+    public static final Line line1 = new Line(1L, "2호선", "bg-green-600");
+    public static final Line line2 = new Line(2L, "신분당선", "bg-red-600", 900);
+
+    public static final Station station1 = new Station(1L, "A");
+    public static final Station station2 = new Station(2L, "B");
+    public static final Station station3 = new Station(3L, "C");
+    public static final Station station4 = new Station(4L, "D");
+    public static final Station station5 = new Station(5L, "E");
+    public static final Station station6 = new Station(6L, "F");
+    public static final Station station7 = new Station(7L, "G");
+    public static final Station station8 = new Station(8L, "H");
+    public static final Station station9 = new Station(9L, "I");
+
+    public static final List<Station> STATIONS = List.of(
+            station1, station2, station3, station4, station5, station6, station7
+    );
+
+    public static final List<Section> SAMPLE_SECTIONS = List.of(
+            new Section(1L, line1, station1, station2, 1),
+            new Section(2L, line1, station2, station5, 2),
+            new Section(3L, line1, station5, station7, 2),
+            new Section(4L, line1, station7, station6, 1),
+            new Section(5L, line2, station2, station4, 1),
+            new Section(6L, line2, station4, station3, 1),
+            new Section(7L, line2, station3, station7, 1)
+    );
+
+    public static final List<Section> DISCONNECTED_SAMPLE_SECTIONS = List.of(
+            new Section(1L, line1, station1, station2, 1),
+            new Section(2L, line1, station2, station5, 2),
+            new Section(3L, line1, station5, station7, 2),
+            new Section(4L, line1, station7, station6, 1),
+            new Section(5L, line2, station2, station4, 1),
+            new Section(6L, line2, station4, station3, 1),
+            new Section(7L, line2, station3, station7, 1),
+            new Section(8L, line1, station8, station9, 3)
+    );
+
+    public static List<Station> createStations(int count) {
+        return createStations(1, count);
+    }
+
+    public static List<Station> createStations(long firstId, long lastId) {
+        final List<Station> stations = new ArrayList<>();
+        for (long id = firstId; id <= lastId; id++) {
+            stations.add(new Station(id, "역" + id));
+        }
+        return stations;
+    }
+
+    public static List<Section> createLine(List<Station> stations, Line line) {
+        final List<Section> sections = new ArrayList<>();
+        for (int index = 0; index + 1 < stations.size(); index++) {
+            sections.add(new Section((long) index + 1, line, stations.get(index), stations.get(index + 1),
+                    index % 4 + 1));
+        }
+        return sections;
+    }
+
+    public static List<Section> createLineWithExpress(List<Station> stations) {
+        final List<Section> sections = createLine(stations, line1);
+        sections.add(new Section(100L, line2, stations.get(3), stations.get(20), 7));
+        sections.add(new Section(101L, line2, stations.get(10), stations.get(27), 5));
+        return sections;
+    }
+
+    public static Station[][] createGrid(int size) {
+        final Station[][] grid = new Station[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                final long id = (long) row * size + column + 1;
+                grid[row][column] = new Station(id, "역" + id);
+            }
+        }
+        return grid;
+    }
+
+    public static List<Section> connectGrid(Station[][] grid, IntBinaryOperator distance) {
+        final List<Section> sections = new ArrayList<>();
+        for (int row = 0; row < grid.length; row++) {
+            for (int column = 0; column < grid[row].length; column++) {
+                final int cellDistance = distance.applyAsInt(row, column);
+                if (column + 1 < grid[row].length) {
+                    sections.add(new Section(sections.size() + 1L, line1, grid[row][column], grid[row][column + 1],
+                            cellDistance));
+                }
+                if (row + 1 < grid.length) {
+                    sections.add(new Section(sections.size() + 1L, line1, grid[row][column], grid[row + 1][column],
+                            cellDistance));
+                }
+            }
+        }
+        return sections;
+    }
+}
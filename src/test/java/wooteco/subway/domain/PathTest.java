@@ -118,4 +118,21 @@ class PathTest {
                         tuple(4L, station7, station6)
                 );
     }
+
+    @DisplayName("이어지는 두 경로를 합치면 역, 구간, 거리가 차례로 이어진다.")
+    @Test
+    public void append() {
+        // given
+        final JgraphtPathGenerator pathGenerator = new JgraphtPathGenerator();
+        final Path first = pathGenerator.generatePath(ANOTHER_SAMPLE_SECTIONS, station1, station4);
+        final Path second = pathGenerator.generatePath(ANOTHER_SAMPLE_SECTIONS, station4, station6);
+
+        // when
+        final Path path = first.append(second);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(path.getShortestEdge()).extracting("id").containsExactly(1L, 5L, 6L, 7L, 4L);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+    }
 }
@@ -0,0 +1,106 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.RoutingGraph;
+
+class RoutingGraphTest {
+
+    private static final Line line1 = new Line(1L, "2호선", "bg-green-600");
+
+    private static final Station station1 = new Station(1L, "A");
+    private static final Station station2 = new Station(2L, "B");
+    private static final Station station3 = new Station(3L, "C");
+    private static final Station station4 = new Station(4L, "D");
+
+    private static final Section SECTION_A_B = new Section(1L, line1, station1, station2, 5);
+    private static final Section SECTION_B_C = new Section(2L, line1, station2, station3, 5);
+
+    @DisplayName("구간이 나뉘면 기존 구간을 지우고 나뉜 두 구간을 그래프에 반영한다.")
+    @Test
+    public void patchSplitSection() {
+        // given
+        final RoutingGraph graph = RoutingGraph.from(List.of(SECTION_A_B, SECTION_B_C));
+        final Section split1 = new Section(3L, line1, station2, station4, 2);
+        final Section split2 = new Section(4L, line1, station4, station3, 3);
+
+        // when
+        final RoutingGraph patched = graph.patch(List.of(SECTION_B_C), List.of(split1, split2)).orElseThrow();
+        final Path path = new CsrPathGenerator().prepare(patched).findPath(station1, station3);
+
+        // then
+        assertThat(patched.getSections()).containsExactlyInAnyOrder(SECTION_A_B, split1, split2);
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station4, station3);
+        assertThat(path.getShortestPathWeight()).isEqualTo(10);
+    }
+
+    @DisplayName("구간이 합쳐지면 가운데 역은 더 이상 그래프에 포함되지 않는다.")
+    @Test
+    public void patchMergeSections() {
+        // given
+        final RoutingGraph graph = RoutingGraph.from(List.of(SECTION_A_B, SECTION_B_C));
+        final Section merged = new Section(3L, line1, station1, station3, 10);
+
+        // when
+        final RoutingGraph patched = graph.patch(List.of(SECTION_A_B, SECTION_B_C), List.of(merged)).orElseThrow();
+
+        // then
+        assertThat(patched.getSections()).containsExactly(merged);
+        assertThat(patched.contains(station2)).isFalse();
+        assertThat(patched.contains(station1)).isTrue();
+    }
+
+    @DisplayName("패치를 적용해도 기존 그래프는 변하지 않는다.")
+    @Test
+    public void patchKeepsOriginalGraph() {
+        // given
+        final RoutingGraph graph = RoutingGraph.from(List.of(SECTION_A_B, SECTION_B_C));
+
+        // when
+        graph.patch(List.of(SECTION_A_B), List.of());
+        final Path path = new CsrPathGenerator().prepare(graph).findPath(station1, station3);
+
+        // then
+        assertThat(graph.getSections()).containsExactly(SECTION_A_B, SECTION_B_C);
+        assertThat(path.getShortestPathWeight()).isEqualTo(10);
+    }
+
+    @DisplayName("그래프에 없는 구간을 지우려고 하면 패치를 적용하지 않는다.")
+    @Test
+    public void patchWithUnknownSection() {
+        // given
+        final RoutingGraph graph = RoutingGraph.from(List.of(SECTION_A_B));
+
+        // when & then
+        assertThat(graph.patch(List.of(SECTION_B_C), List.of())).isEmpty();
+    }
+
+    @DisplayName("이미 그래프에 있는 구간을 다시 추가하려고 하면 패치를 적용하지 않는다.")
+    @Test
+    public void patchWithLiveSection() {
+        // given
+        final RoutingGraph refreshed = RoutingGraph.from(List.of(SECTION_A_B, SECTION_B_C));
+
+        // when & then
+        assertThat(refreshed.patch(List.of(), List.of(SECTION_B_C))).isEmpty();
+    }
+
+    @DisplayName("같은 패치에서 지운 구간은 다시 추가할 수 있다.")
+    @Test
+    public void patchWithReplacedSection() {
+        // given
+        final RoutingGraph graph = RoutingGraph.from(List.of(SECTION_A_B, SECTION_B_C));
+        final Section shortened = new Section(2L, line1, station2, station3, 1);
+
+        // when
+        final RoutingGraph patched = graph.patch(List.of(SECTION_B_C), List.of(shortened)).orElseThrow();
+
+        // then
+        assertThat(patched.getSections()).containsExactlyInAnyOrder(SECTION_A_B, shortened);
+    }
+}
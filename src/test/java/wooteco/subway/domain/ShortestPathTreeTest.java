@@ -0,0 +1,103 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.STATIONS;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station5;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.domain.path.ShortestPathTree;
+import wooteco.subway.exception.IllegalPathException;
+
+class ShortestPathTreeTest {
+
+    @DisplayName("한 번의 탐색으로 출발역에서 모든 역까지의 최단 거리를 구한다.")
+    @Test
+    public void sameDistanceAsDijkstra() {
+        // given
+        final RoutingGraph routingGraph = RoutingGraph.from(SAMPLE_SECTIONS);
+        final PathFinder dijkstra = new CsrPathGenerator().prepare(routingGraph);
+
+        // when
+        final ShortestPathTree tree = ShortestPathTree.from(routingGraph, station1);
+
+        // then
+        for (Station target : STATIONS) {
+            assertThat(tree.distanceTo(target))
+                    .isEqualTo(dijkstra.findPath(station1, target).getShortestPathWeight());
+        }
+    }
+
+    @DisplayName("최단 경로에 포함된 노선 중 가장 큰 추가 요금을 구한다.")
+    @Test
+    public void maxExtraFare() {
+        // given
+        final ShortestPathTree tree = ShortestPathTree.from(RoutingGraph.from(SAMPLE_SECTIONS), station1);
+
+        // when & then
+        assertThat(tree.maxExtraFareTo(station5)).isEqualTo(0);
+        assertThat(tree.maxExtraFareTo(station6)).isEqualTo(900);
+    }
+
+    @DisplayName("최단 경로 트리를 따라 경로를 복원한다.")
+    @Test
+    public void pathTo() {
+        // given
+        final ShortestPathTree tree = ShortestPathTree.from(RoutingGraph.from(SAMPLE_SECTIONS), station1);
+
+        // when
+        final Path path = tree.pathTo(station6);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+    }
+
+    @DisplayName("최대 거리 안의 역까지만 가까운 순서로 탐색한다.")
+    @Test
+    public void within() {
+        // given
+        final RoutingGraph routingGraph = RoutingGraph.from(SAMPLE_SECTIONS);
+
+        // when
+        final ShortestPathTree tree = ShortestPathTree.within(routingGraph, station1, 3);
+
+        // then
+        assertThat(tree.getReachableStations()).startsWith(station1, station2, station4)
+                .containsExactlyInAnyOrder(station1, station2, station3, station4, station5);
+        assertThat(tree.distanceTo(station5)).isEqualTo(3);
+        assertThat(tree.isReachable(station7)).isFalse();
+        assertThat(tree.isReachable(station6)).isFalse();
+    }
+
+    @DisplayName("연결되지 않은 역은 도달할 수 없고, 거리를 구하면 예외가 발생한다.")
+    @Test
+    public void notConnected() {
+        // given
+        final ShortestPathTree tree = ShortestPathTree.from(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 1),
+                new Section(2L, line2, station3, station4, 1)
+        )), station1);
+
+        // when & then
+        assertThat(tree.isReachable(station4)).isFalse();
+        assertThat(tree.isReachable(station7)).isFalse();
+        assertThatThrownBy(() -> tree.distanceTo(station4))
+                .isInstanceOf(IllegalPathException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.NetworkSnapshot;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.SourceTreeCache;
+
+class SourceTreeCacheTest {
+
+    private static final long ONE_TREE_BUDGET = 4 * 4 * Integer.BYTES;
+
+    private static final Line line1 = new Line(1L, "2호선", "bg-green-600");
+
+    private static final Station station1 = new Station(1L, "A");
+    private static final Station station2 = new Station(2L, "B");
+    private static final Station station3 = new Station(3L, "C");
+    private static final Station station4 = new Station(4L, "D");
+
+    private static final List<Station> STATIONS = List.of(station1, station2, station3, station4);
+    private static final List<Section> SECTIONS = List.of(
+            new Section(1L, line1, station1, station2, 2),
+            new Section(2L, line1, station2, station3, 3),
+            new Section(3L, line1, station3, station4, 4)
+    );
+
+    @DisplayName("자주 조회된 출발역은 미리 계산된 최단 경로 트리로 경로를 찾는다.")
+    @Test
+    public void findPathFromHotSource() throws InterruptedException {
+        // given
+        final SourceTreeCache sourceTreeCache = new SourceTreeCache(ONE_TREE_BUDGET);
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, STATIONS, SECTIONS, new CsrPathGenerator());
+        sourceTreeCache.record(snapshot, station1);
+        assertThat(sourceTreeCache.findPath(snapshot, station1, station4)).isEmpty();
+        waitForTrees(sourceTreeCache, 1);
+
+        // when
+        final Path path = sourceTreeCache.findPath(snapshot, station1, station3).orElseThrow();
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station3);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+        assertThat(sourceTreeCache.getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("메모리 한도를 넘는 트리는 계산하지 않고 가장 자주 조회된 출발역만 남긴다.")
+    @Test
+    public void keepTreesWithinMemoryBudget() throws InterruptedException {
+        // given
+        final SourceTreeCache sourceTreeCache = new SourceTreeCache(ONE_TREE_BUDGET);
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, STATIONS, SECTIONS, new CsrPathGenerator());
+        sourceTreeCache.record(snapshot, station2);
+        waitForTrees(sourceTreeCache, 1);
+
+        // when
+        for (int i = 0; i < 300; i++) {
+            sourceTreeCache.record(snapshot, station1);
+        }
+        waitUntilPresent(sourceTreeCache, snapshot, station1, station4);
+
+        // then
+        assertThat(sourceTreeCache.getTreeCount()).isEqualTo(1);
+        assertThat(sourceTreeCache.findPath(snapshot, station2, station4)).isEmpty();
+    }
+
+    @DisplayName("노선도 버전이 바뀌면 이전 버전의 트리는 사용하지 않는다.")
+    @Test
+    public void ignoreTreesOfOldVersion() throws InterruptedException {
+        // given
+        final SourceTreeCache sourceTreeCache = new SourceTreeCache(ONE_TREE_BUDGET);
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, STATIONS, SECTIONS, new CsrPathGenerator());
+        sourceTreeCache.record(snapshot, station1);
+        waitForTrees(sourceTreeCache, 1);
+
+        // when
+        final NetworkSnapshot nextSnapshot = new NetworkSnapshot(2L, STATIONS, SECTIONS.subList(0, 2),
+                new CsrPathGenerator());
+
+        // then
+        assertThat(sourceTreeCache.findPath(nextSnapshot, station1, station3)).isEmpty();
+    }
+
+    private void waitForTrees(SourceTreeCache sourceTreeCache, int treeCount) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (sourceTreeCache.getTreeCount() < treeCount && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void waitUntilPresent(SourceTreeCache sourceTreeCache, NetworkSnapshot snapshot, Station source,
+                                  Station target) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (sourceTreeCache.findPath(snapshot, source, target).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
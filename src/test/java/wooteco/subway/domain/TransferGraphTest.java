@@ -0,0 +1,85 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station5;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.domain.path.TransferGraph;
+import wooteco.subway.exception.IllegalPathException;
+
+class TransferGraphTest {
+
+    @DisplayName("환승 횟수가 가장 적은 경로 중 거리가 가장 짧은 경로를 찾는다.")
+    @Test
+    public void findFewestTransfersPath() {
+        // given
+        final TransferGraph transferGraph = TransferGraph.from(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when
+        final Path path = transferGraph.findFewestTransfersPath(station1, station6);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station5, station7, station6);
+        assertThat(path.getShortestPathWeight()).isEqualTo(6);
+        assertThat(path.getShortestEdge()).extracting("id").containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("환승 1회마다 더하는 거리가 작으면 환승하더라도 더 짧은 경로를 찾는다.")
+    @Test
+    public void findPathWithTransferPenalty() {
+        // given
+        final TransferGraph transferGraph = TransferGraph.from(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when
+        final Path cheapTransfer = transferGraph.findPath(station1, station6, 0);
+        final Path expensiveTransfer = transferGraph.findPath(station1, station6, 1);
+
+        // then
+        assertThat(cheapTransfer.getShortestPathWeight()).isEqualTo(5);
+        assertThat(cheapTransfer.getShortestPath())
+                .containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(expensiveTransfer.getShortestPathWeight()).isEqualTo(6);
+    }
+
+    @DisplayName("출발역과 도착역이 같으면 구간이 없는 경로를 반환한다.")
+    @Test
+    public void sameStation() {
+        // given
+        final TransferGraph transferGraph = TransferGraph.from(RoutingGraph.from(SAMPLE_SECTIONS));
+
+        // when
+        final Path path = transferGraph.findFewestTransfersPath(station2, station2);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station2);
+        assertThat(path.getShortestEdge()).isEmpty();
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로를 찾으면 예외가 발생한다.")
+    @Test
+    public void notConnected() {
+        // given
+        final TransferGraph transferGraph = TransferGraph.from(RoutingGraph.from(List.of(
+                new Section(1L, line1, station1, station2, 1),
+                new Section(2L, line2, station3, station4, 1)
+        )));
+
+        // when & then
+        assertThatThrownBy(() -> transferGraph.findFewestTransfersPath(station1, station4))
+                .isInstanceOf(IllegalPathException.class);
+    }
+}
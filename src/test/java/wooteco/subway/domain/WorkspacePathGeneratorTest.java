@@ -0,0 +1,113 @@
+package wooteco.subway.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static wooteco.subway.domain.PathFixture.SAMPLE_SECTIONS;
+import static wooteco.subway.domain.PathFixture.STATIONS;
+import static wooteco.subway.domain.PathFixture.createLine;
+import static wooteco.subway.domain.PathFixture.createStations;
+import static wooteco.subway.domain.PathFixture.line1;
+import static wooteco.subway.domain.PathFixture.line2;
+import static wooteco.subway.domain.PathFixture.station1;
+import static wooteco.subway.domain.PathFixture.station2;
+import static wooteco.subway.domain.PathFixture.station3;
+import static wooteco.subway.domain.PathFixture.station4;
+import static wooteco.subway.domain.PathFixture.station6;
+import static wooteco.subway.domain.PathFixture.station7;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathFinder;
+import wooteco.subway.domain.path.RoutingGraph;
+import wooteco.subway.domain.path.WorkspacePathGenerator;
+import wooteco.subway.exception.IllegalPathException;
+
+class WorkspacePathGeneratorTest {
+
+    private static final int LONG_LINE_STATION_COUNT = 10_000;
+    private static final int MEASURED_QUERY_COUNT = 1_000;
+    private static final long MAX_BYTES_PER_QUERY = 512;
+
+    @DisplayName("재사용하는 작업 공간으로 최단 경로를 구할 수 있다.")
+    @Test
+    public void generatePath() {
+        // given
+        final WorkspacePathGenerator pathGenerator = new WorkspacePathGenerator();
+
+        // when
+        final Path path = pathGenerator.generatePath(SAMPLE_SECTIONS, station1, station6);
+
+        // then
+        assertThat(path.getShortestPath()).containsExactly(station1, station2, station4, station3, station7, station6);
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+    }
+
+    @DisplayName("작업 공간을 재사용해도 모든 출발역과 도착역 쌍에 대해 같은 최단 거리를 구한다.")
+    @Test
+    public void sameWeightAsCsr() {
+        // given
+        final RoutingGraph routingGraph = RoutingGraph.from(SAMPLE_SECTIONS);
+        final PathFinder workspacePathFinder = new WorkspacePathGenerator().prepare(routingGraph);
+        final PathFinder csrPathFinder = new CsrPathGenerator().prepare(routingGraph);
+
+        // when & then
+        for (Station source : STATIONS) {
+            for (Station target : STATIONS) {
+                final Path expected = csrPathFinder.findPath(source, target);
+                final Path actual = workspacePathFinder.findPath(source, target);
+
+                assertThat(actual.getShortestPathWeight()).isEqualTo(expected.getShortestPathWeight());
+                assertThat(actual.getShortestEdge()).hasSize(actual.getShortestPath().size() - 1);
+            }
+        }
+    }
+
+    @DisplayName("출발역과 도착역이 연결되어 있지 않으면 예외가 발생한다.")
+    @Test
+    public void notConnected() {
+        // given
+        final List<Section> sections = List.of(
+                new Section(1L, line1, station1, station2, 1),
+                new Section(2L, line2, station3, station4, 1)
+        );
+        final WorkspacePathGenerator pathGenerator = new WorkspacePathGenerator();
+
+        // when & then
+        assertThatThrownBy(() -> pathGenerator.generatePath(sections, station1, station4))
+                .isInstanceOf(IllegalPathException.class);
+    }
+
+    @DisplayName("작업 공간이 만들어진 뒤의 탐색은 결과 경로 외에 메모리를 거의 할당하지 않는다.")
+    @Test
+    public void allocatedBytesPerQuery() {
+        // given
+        final List<Station> stations = createStations(LONG_LINE_STATION_COUNT);
+        final RoutingGraph routingGraph = RoutingGraph.from(createLine(stations, line1));
+        final PathFinder pathFinder = new WorkspacePathGenerator().prepare(routingGraph);
+        final Station middle = stations.get(LONG_LINE_STATION_COUNT / 2);
+        final Station next = stations.get(LONG_LINE_STATION_COUNT / 2 + 1);
+        for (int i = 0; i < MEASURED_QUERY_COUNT; i++) {
+            pathFinder.findPath(middle, next);
+        }
+
+        // when
+        final long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_QUERY_COUNT; i++) {
+            pathFinder.findPath(middle, next);
+        }
+        final long bytesPerQuery = (allocatedBytes() - before) / MEASURED_QUERY_COUNT;
+
+        // then
+        assertThat(bytesPerQuery).isLessThan(MAX_BYTES_PER_QUERY);
+    }
+
+    private long allocatedBytes() {
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,130 @@
+package wooteco.subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Section;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.CsrPathGenerator;
+import wooteco.subway.domain.path.NetworkSnapshot;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.exception.IllegalPathException;
+
+class PathBatcherTest {
+
+    private static final long WINDOW_MICROS = TimeUnit.MILLISECONDS.toMicros(200);
+    private static final long TIMEOUT_MILLIS = 1000L;
+    private static final int SEARCH_THREADS = 2;
+
+    private static final Line line1 = new Line(1L, "2호선", "bg-green-600");
+
+    private static final Station station1 = new Station(1L, "A");
+    private static final Station station2 = new Station(2L, "B");
+    private static final Station station3 = new Station(3L, "C");
+    private static final Station station4 = new Station(4L, "D");
+    private static final Station station5 = new Station(5L, "E");
+    private static final Station station6 = new Station(6L, "F");
+
+    private static final NetworkSnapshot SNAPSHOT = new NetworkSnapshot(1L,
+            List.of(station1, station2, station3, station4, station5, station6),
+            List.of(
+                    new Section(1L, line1, station1, station2, 2),
+                    new Section(2L, line1, station2, station3, 3),
+                    new Section(3L, line1, station3, station4, 4),
+                    new Section(4L, line1, station5, station6, 1)
+            ),
+            new CsrPathGenerator());
+
+    @DisplayName("같은 출발역에서 동시에 들어온 요청은 한 번의 탐색으로 함께 처리한다.")
+    @Test
+    public void batchQueriesFromSameSource() throws Exception {
+        // given
+        final PathBatcher pathBatcher = new PathBatcher(WINDOW_MICROS, TIMEOUT_MILLIS, SEARCH_THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // when
+        final List<Future<Path>> paths = new ArrayList<>();
+        for (Station target : List.of(station2, station3, station4)) {
+            paths.add(executor.submit(() -> pathBatcher.findPath(SNAPSHOT, station1, target)));
+        }
+
+        // then
+        assertThat(paths.get(0).get(1, TimeUnit.SECONDS).getShortestPathWeight()).isEqualTo(2);
+        assertThat(paths.get(1).get(1, TimeUnit.SECONDS).getShortestPathWeight()).isEqualTo(5);
+        assertThat(paths.get(2).get(1, TimeUnit.SECONDS).getShortestPath())
+                .containsExactly(station1, station2, station3, station4);
+        assertThat(pathBatcher.getQueryCount()).isEqualTo(3);
+        assertThat(pathBatcher.getSearchCount()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @DisplayName("대기 시간이 0이면 요청을 모으지 않고 바로 탐색한다.")
+    @Test
+    public void findPathWithoutBatching() {
+        // given
+        final PathBatcher pathBatcher = new PathBatcher(0, TIMEOUT_MILLIS, SEARCH_THREADS);
+
+        // when
+        final Path path = pathBatcher.findPath(SNAPSHOT, station1, station3);
+
+        // then
+        assertThat(path.getShortestPathWeight()).isEqualTo(5);
+        assertThat(pathBatcher.getSearchCount()).isEqualTo(1);
+    }
+
+    @DisplayName("함께 처리된 요청 중 연결되지 않은 도착역이 있으면 그 요청만 예외가 발생한다.")
+    @Test
+    public void notConnectedTargetInBatch() throws Exception {
+        // given
+        final PathBatcher pathBatcher = new PathBatcher(WINDOW_MICROS, TIMEOUT_MILLIS, SEARCH_THREADS);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        final Future<Path> connected = executor.submit(() -> pathBatcher.findPath(SNAPSHOT, station1, station4));
+        final Future<Path> notConnected = executor.submit(() -> pathBatcher.findPath(SNAPSHOT, station1, station5));
+
+        // then
+        assertThat(connected.get(1, TimeUnit.SECONDS).getShortestPathWeight()).isEqualTo(9);
+        assertThatThrownBy(() -> notConnected.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalPathException.class);
+        executor.shutdownNow();
+    }
+
+    @DisplayName("탐색 중 오류가 발생해도 기다리던 요청은 예외로 끝난다.")
+    @Test
+    public void errorInBatchedSearch() {
+        // given
+        final PathBatcher pathBatcher = new PathBatcher(WINDOW_MICROS, TIMEOUT_MILLIS, SEARCH_THREADS);
+        final NetworkSnapshot snapshot = new NetworkSnapshot(1L, List.of(station1, station2),
+                List.of(new Section(1L, line1, station1, station2, 2)),
+                routingGraph -> (sourceStation, targetStation) -> {
+                    throw new StackOverflowError();
+                });
+
+        // when & then
+        assertThatThrownBy(() -> pathBatcher.findPath(snapshot, station1, station2))
+                .hasCauseInstanceOf(StackOverflowError.class);
+    }
+
+    @DisplayName("종료된 뒤 들어온 요청은 기다리지 않고 예외가 발생한다.")
+    @Test
+    public void findPathAfterShutdown() {
+        // given
+        final PathBatcher pathBatcher = new PathBatcher(WINDOW_MICROS, TIMEOUT_MILLIS, SEARCH_THREADS);
+        pathBatcher.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> pathBatcher.findPath(SNAPSHOT, station1, station2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("경로 탐색기가 종료되었습니다.");
+    }
+}
@@ -1,6 +1,7 @@
 package wooteco.subway.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import org.junit.jupiter.api.DisplayName;
@@ -65,6 +66,75 @@ class PathGeneratorTest {
                 );
     }
 
+    @DisplayName("구간이 변경되면 변경된 노선도를 기준으로 최단 경로를 조회한다.")
+    @Test
+    public void findPathAfterSectionChanged() {
+        // given
+        final StationResponse stationResponse1 = stationService.save(new StationRequest("a"));
+        final StationResponse stationResponse2 = stationService.save(new StationRequest("b"));
+        final StationResponse stationResponse3 = stationService.save(new StationRequest("c"));
+
+        final LineRequest lineRequest = new LineRequest("신분당선", "bg-red-600", stationResponse1.getId(), stationResponse2.getId(), 10);
+        final Long lineId = lineService.save(lineRequest).getId();
+        sectionService.save(lineId, new SectionRequest(stationResponse2.getId(), stationResponse3.getId(), 5));
+        pathService.findPath(stationResponse1.getId(), stationResponse3.getId(), 20);
+
+        // when
+        sectionService.delete(lineId, stationResponse2.getId());
+        final PathResponse response = pathService.findPath(stationResponse1.getId(), stationResponse3.getId(), 20);
+
+        // then
+        assertThat(response).extracting("distance", "fare")
+                .containsExactly(15, 1350);
+        assertThat(response.getStations()).hasSize(2)
+                .extracting("id", "name")
+                .containsExactly(
+                        tuple(stationResponse1.getId(), "a"),
+                        tuple(stationResponse3.getId(), "c")
+                );
+    }
+
+    @DisplayName("구간 중간에 역을 추가하면 나뉜 구간을 기준으로 최단 경로를 조회한다.")
+    @Test
+    public void findPathAfterSectionSplit() {
+        // given
+        final StationResponse stationResponse1 = stationService.save(new StationRequest("a"));
+        final StationResponse stationResponse2 = stationService.save(new StationRequest("b"));
+        final StationResponse stationResponse3 = stationService.save(new StationRequest("c"));
+
+        final LineRequest lineRequest = new LineRequest("신분당선", "bg-red-600", stationResponse1.getId(), stationResponse3.getId(), 10);
+        final Long lineId = lineService.save(lineRequest).getId();
+        pathService.findPath(stationResponse1.getId(), stationResponse3.getId(), 20);
+
+        // when
+        sectionService.save(lineId, new SectionRequest(stationResponse1.getId(), stationResponse2.getId(), 4));
+        final PathResponse response = pathService.findPath(stationResponse2.getId(), stationResponse3.getId(), 20);
+
+        // then
+        assertThat(response.getDistance()).isEqualTo(6);
+        assertThat(response.getStations()).extracting("id")
+                .containsExactly(stationResponse2.getId(), stationResponse3.getId());
+    }
+
+    @DisplayName("노선을 삭제하면 삭제된 노선의 구간으로는 경로를 조회할 수 없다.")
+    @Test
+    public void findPathAfterLineRemoved() {
+        // given
+        final StationResponse stationResponse1 = stationService.save(new StationRequest("a"));
+        final StationResponse stationResponse2 = stationService.save(new StationRequest("b"));
+
+        final Long lineId = lineService.save(new LineRequest("신분당선", "bg-red-600", stationResponse1.getId(),
+                stationResponse2.getId(), 10)).getId();
+        pathService.findPath(stationResponse1.getId(), stationResponse2.getId(), 20);
+
+        // when
+        lineService.deleteById(lineId);
+
+        // then
+        assertThatThrownBy(() -> pathService.findPath(stationResponse1.getId(), stationResponse2.getId(), 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @DisplayName("추가 요금이 있는 노선을 이용할 경우 가장 높은 금액의 추가 요금이 적용된다.")
     @Test
     public void testExtraFromLine() {
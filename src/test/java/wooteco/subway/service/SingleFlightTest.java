@@ -0,0 +1,91 @@
+package wooteco.subway.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.exception.IllegalPathException;
+
+class SingleFlightTest {
+
+    private static final int CALLER_COUNT = 8;
+
+    @DisplayName("같은 키로 동시에 들어온 요청은 진행 중인 계산 하나의 결과를 함께 받는다.")
+    @Test
+    public void shareInFlightComputation() throws Exception {
+        // given
+        final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(CALLER_COUNT);
+
+        // when
+        final List<Future<Integer>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("key", () -> awaitAndReturn(release, 42))));
+        waitUntil(() -> singleFlight.getExecutionCount() == 1);
+        for (int i = 1; i < CALLER_COUNT; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("key", () -> 0)));
+        }
+        waitUntil(() -> singleFlight.getSharedCount() == CALLER_COUNT - 1);
+        release.countDown();
+
+        // then
+        for (Future<Integer> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @DisplayName("계산이 끝난 뒤 같은 키로 요청하면 다시 계산한다.")
+    @Test
+    public void executeAgainAfterCompletion() {
+        // given
+        final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        // when
+        singleFlight.execute("key", () -> 1);
+        final int result = singleFlight.execute("key", () -> 2);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+        assertThat(singleFlight.getSharedCount()).isEqualTo(0);
+    }
+
+    @DisplayName("계산 중 발생한 예외는 요청한 쪽에 그대로 전달된다.")
+    @Test
+    public void propagateException() {
+        // given
+        final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalPathException("경로가 존재하지 않습니다.");
+        })).isInstanceOf(IllegalPathException.class);
+    }
+
+    private int awaitAndReturn(CountDownLatch latch, int value) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}